@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.benchmark;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import de.markusbordihn.advancementstracker.core.AdvancementNodeEntry;
+import de.markusbordihn.advancementstracker.core.AdvancementsModel;
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancements;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancementsStore;
+import de.markusbordihn.advancementstracker.core.generator.AdvancementForest;
+import de.markusbordihn.advancementstracker.core.generator.AdvancementForestGenerator;
+import de.markusbordihn.advancementstracker.core.generator.AdvancementForestSettings;
+import de.markusbordihn.advancementstracker.core.generator.GeneratedAdvancement;
+import de.markusbordihn.advancementstracker.core.layout.TrackedAdvancementLayout;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryTrackedAdvancementsStorage;
+import de.markusbordihn.advancementstracker.core.memory.MonospaceTextMeasurer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ingestion, progress updates, lookups, sorted views and tracked checks of the advancements model
+ * with modpack sized advancement trees.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class AdvancementIndexBenchmark {
+
+  private static final long SEED = 1337L;
+  private static final int NUMBER_OF_LOOKUPS = 1024;
+  private static final int NUMBER_OF_TRACKED_ADVANCEMENTS = 16;
+  private static final int NUMBER_OF_VISIBLE_ROWS = 24;
+  private static final int WIDGET_WIDTH = 130;
+  private static final TextMeasurer TEXT_MEASURER = new MonospaceTextMeasurer();
+  private static final Comparator<AdvancementNodeEntry> SORT_BY_TITLE =
+      Comparator.comparing(AdvancementNodeEntry::getTitleString);
+
+  @Param({"5000", "20000"})
+  public int numberOfAdvancements;
+
+  @Param({"false", "true"})
+  public boolean autoOrder;
+
+  private List<AdvancementNode> advancementNodes;
+  private List<InMemoryAdvancementNodeProgress> advancementProgressList;
+  private TrackedAdvancementsStore trackedAdvancementsStore;
+  private AdvancementsModel<AdvancementNodeEntry> advancementsModel;
+  private String[] lookupIds;
+  private String[] rootIds;
+  private List<AdvancementNodeEntry> visibleAdvancements;
+  private Map<String, TrackedAdvancementLayout> layoutCache;
+  private int lookupPosition = 0;
+  private int rootPosition = 0;
+  private boolean revokeProgress = false;
+
+  @Setup
+  public void setup() {
+    AdvancementForest advancementForest =
+        AdvancementForestGenerator.generate(
+            AdvancementForestSettings.modpack(SEED, this.numberOfAdvancements));
+    this.advancementNodes = advancementForest.getNodes();
+    this.advancementProgressList = new ArrayList<>(advancementForest.size());
+    for (GeneratedAdvancement advancement : advancementForest.advancements()) {
+      this.advancementProgressList.add(advancement.progress());
+    }
+
+    // Stored tracked advancements, which are restored during the ingestion.
+    Random random = new Random(SEED);
+    Set<String> trackedIds = new LinkedHashSet<>();
+    while (trackedIds.size() < NUMBER_OF_TRACKED_ADVANCEMENTS) {
+      int index = random.nextInt(this.advancementNodes.size());
+      AdvancementNode advancementNode = this.advancementNodes.get(index);
+      if (!advancementNode.isRoot() && !this.advancementProgressList.get(index).isDone()) {
+        trackedIds.add(advancementNode.getId());
+      }
+    }
+    this.trackedAdvancementsStore =
+        new TrackedAdvancementsStore(new InMemoryTrackedAdvancementsStorage(), 0, 10);
+    this.trackedAdvancementsStore.setTrackedAdvancements(null, trackedIds);
+    this.advancementsModel = ingest();
+
+    this.lookupIds = new String[NUMBER_OF_LOOKUPS];
+    for (int index = 0; index < NUMBER_OF_LOOKUPS; index++) {
+      this.lookupIds[index] =
+          this.advancementNodes.get(random.nextInt(this.advancementNodes.size())).getId();
+    }
+    this.rootIds =
+        this.advancementsModel.getIndex().getRoots().stream()
+            .map(AdvancementNodeEntry::getIdString)
+            .toArray(String[]::new);
+
+    // Visible overview rows of a root with tracked advancements and the cached widget layouts.
+    List<AdvancementNodeEntry> trackedAdvancements =
+        this.advancementsModel.getTrackedAdvancements().getTrackedAdvancements();
+    AdvancementNodeEntry visibleAdvancement = trackedAdvancements.get(0);
+    List<AdvancementNodeEntry> sortedAdvancements =
+        new ArrayList<>(
+            this.advancementsModel
+                .getIndex()
+                .getSortedEntries(visibleAdvancement.getRootIdString(), SORT_BY_TITLE));
+    int firstVisibleRow =
+        Math.max(
+            0,
+            Math.min(
+                sortedAdvancements.indexOf(visibleAdvancement),
+                sortedAdvancements.size() - NUMBER_OF_VISIBLE_ROWS));
+    this.visibleAdvancements =
+        sortedAdvancements.subList(
+            firstVisibleRow,
+            Math.min(firstVisibleRow + NUMBER_OF_VISIBLE_ROWS, sortedAdvancements.size()));
+    this.layoutCache = new HashMap<>();
+    for (AdvancementNodeEntry advancementEntry : trackedAdvancements) {
+      this.layoutCache.put(
+          advancementEntry.getIdString(),
+          new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDGET_WIDTH));
+    }
+  }
+
+  /** Same steps as joining a world: add all advancements and apply their initial progress. */
+  private AdvancementsModel<AdvancementNodeEntry> ingest() {
+    TrackedAdvancements<AdvancementNodeEntry> trackedAdvancements =
+        new TrackedAdvancements<>(() -> this.autoOrder, () -> {});
+    trackedAdvancements.load(this.trackedAdvancementsStore, null, List.of());
+    AdvancementsModel<AdvancementNodeEntry> model =
+        new AdvancementsModel<>(
+            (advancementNode, advancementProgress) ->
+                new AdvancementNodeEntry(
+                    advancementNode, advancementProgress, TEXT_MEASURER, key -> null),
+            trackedAdvancements);
+    for (AdvancementNode advancementNode : this.advancementNodes) {
+      if (advancementNode.isRoot()) {
+        model.addRoot(advancementNode);
+      } else {
+        model.addTask(advancementNode);
+      }
+    }
+    for (int index = 0; index < this.advancementNodes.size(); index++) {
+      model.updateProgress(
+          this.advancementNodes.get(index), this.advancementProgressList.get(index));
+    }
+    return model;
+  }
+
+  @Benchmark
+  public AdvancementsModel<AdvancementNodeEntry> ingestAdvancements() {
+    return ingest();
+  }
+
+  /**
+   * Progress update for every known advancement, like after joining a server. The first criterion
+   * is alternately revoked and granted, so that every invocation changes the progress.
+   */
+  @Benchmark
+  public int progressUpdateStorm() {
+    this.revokeProgress = !this.revokeProgress;
+    Date date = new Date();
+    for (int index = 0; index < this.advancementNodes.size(); index++) {
+      AdvancementNode advancementNode = this.advancementNodes.get(index);
+      InMemoryAdvancementNodeProgress advancementProgress = this.advancementProgressList.get(index);
+      String criterion = advancementNode.getRequirements()[0][0];
+      if (this.revokeProgress) {
+        advancementProgress.revoke(criterion);
+      } else {
+        advancementProgress.grant(criterion, date);
+      }
+      this.advancementsModel.updateProgress(advancementNode, advancementProgress);
+    }
+    return this.advancementsModel.getVersion();
+  }
+
+  @Benchmark
+  public AdvancementNodeEntry getAdvancement() {
+    String advancementId = this.lookupIds[this.lookupPosition++ & (NUMBER_OF_LOOKUPS - 1)];
+    return this.advancementsModel.getIndex().get(advancementId);
+  }
+
+  @Benchmark
+  public Set<AdvancementNodeEntry> getSortedAdvancements() {
+    String rootId = this.rootIds[this.rootPosition++ % this.rootIds.length];
+    return this.advancementsModel.getIndex().getSortedEntries(rootId, SORT_BY_TITLE);
+  }
+
+  /**
+   * Checks of a single frame: tracked and pinned state of the visible overview rows and the layout
+   * validation of every tracked advancement in the widget.
+   */
+  @Benchmark
+  public int trackedChecksPerFrame() {
+    TrackedAdvancements<AdvancementNodeEntry> trackedAdvancements =
+        this.advancementsModel.getTrackedAdvancements();
+    int result = 0;
+    for (AdvancementNodeEntry advancementEntry : this.visibleAdvancements) {
+      if (trackedAdvancements.isTrackedAdvancement(advancementEntry)) {
+        result++;
+      }
+      if (trackedAdvancements.isPinnedAdvancement(advancementEntry)) {
+        result++;
+      }
+    }
+    for (AdvancementNodeEntry advancementEntry : trackedAdvancements.getTrackedAdvancements()) {
+      TrackedAdvancementLayout layout = this.layoutCache.get(advancementEntry.getIdString());
+      if (layout != null && layout.isValid(advancementEntry, WIDGET_WIDTH)) {
+        result++;
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.benchmark;
+
+import de.markusbordihn.advancementstracker.core.CriterionNames;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Translation of criterion names with a language table of modpack size. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class CriterionNamesBenchmark {
+
+  private static final int NUMBER_OF_TRANSLATIONS = 50000;
+  private static final String ADVANCEMENT_ID = "example_mod:tasks/collect_items";
+
+  private final Map<String, String> translations = new HashMap<>();
+
+  @Setup
+  public void setup() {
+    for (int index = 0; index < NUMBER_OF_TRANSLATIONS; index++) {
+      this.translations.put("item.minecraft.item_" + index, "Item " + index);
+      this.translations.put("entity.example_mod.entity_" + index, "Entity " + index);
+    }
+  }
+
+  /** Criterion which is translated by the first tried key. */
+  @Benchmark
+  public String translateItem() {
+    return CriterionNames.translate(
+        ADVANCEMENT_ID, "minecraft", "minecraft:item_42", this.translations::get);
+  }
+
+  /** Criterion of a mod namespace, which is only translated as entity. */
+  @Benchmark
+  public String translateModEntity() {
+    return CriterionNames.translate(
+        ADVANCEMENT_ID, "example_mod", "example_mod:entity_42", this.translations::get);
+  }
+
+  /** Criterion of a mod namespace, which falls back to the minecraft namespace. */
+  @Benchmark
+  public String translateFallback() {
+    return CriterionNames.translate(
+        ADVANCEMENT_ID, "example_mod", "item_42", this.translations::get);
+  }
+
+  /** Unknown criterion, which tries all translation keys. */
+  @Benchmark
+  public String translateUnknown() {
+    return CriterionNames.translate(
+        ADVANCEMENT_ID, "example_mod", "example_mod:unknown", this.translations::get);
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class AdvancementEntryProgress {
+
+  protected static final Logger log = LogManager.getLogger(CoreConstants.LOG_NAME);
+  // Helper Tools
+  private final TextMeasurer textMeasurer;
+  private final UnaryOperator<String> translator;
+  private AdvancementNodeProgress advancementProgress;
+  // Ids
+  private String id;
+  private String namespace = "";
+  // Progress with default values
+  private Date firstProgressDate;
+  private Date lastProgressDate;
+  private Float progress = 0f;
+  private String progressString = "";
+  private boolean isDone = false;
+  private int progressStringWidth = 0;
+  private int progressTotal = 0;
+  private int version = 0;
+  // Criteria
+  private Iterable<String> completedCriteria;
+  private Iterable<String> remainingCriteria;
+  private int completedCriteriaNumber;
+  private int remainingCriteriaNumber;
+  private int maxCriteraRequired;
+
+  /**
+   * @param translator returns the translation for a key or null, if there is no translation.
+   */
+  public AdvancementEntryProgress(
+      AdvancementNode advancementNode,
+      AdvancementNodeProgress advancementProgress,
+      TextMeasurer textMeasurer,
+      UnaryOperator<String> translator) {
+    // General Helper Tools
+    this.textMeasurer = textMeasurer;
+    this.translator = translator;
+
+    // ID's
+    this.id = advancementNode.getId();
+    this.namespace = advancementNode.getNamespace();
+
+    // Advancement Progress
+    this.maxCriteraRequired = advancementNode.getRequirements().length;
+    this.advancementProgress = advancementProgress;
+    update(this.advancementProgress);
+  }
+
+  public void update(AdvancementNodeProgress advancementProgress) {
+    if (advancementProgress == null) {
+      return;
+    }
+
+    this.advancementProgress = advancementProgress;
+    this.isDone = advancementProgress.isDone();
+    this.firstProgressDate = advancementProgress.getFirstProgressDate();
+    this.progress = advancementProgress.getPercent();
+
+    // Handle completed Criteria
+    this.completedCriteria = advancementProgress.getCompletedCriteria();
+    this.completedCriteriaNumber = countCriteria(this.completedCriteria);
+
+    // Handle remaining Criteria
+    this.remainingCriteria = advancementProgress.getRemainingCriteria();
+    this.remainingCriteriaNumber = countCriteria(this.remainingCriteria);
+
+    // Number of complete Criteria
+    if (this.remainingCriteriaNumber > 0 || this.completedCriteriaNumber > 0) {
+      this.progressTotal = this.completedCriteriaNumber + this.remainingCriteriaNumber;
+      this.progressString = this.completedCriteriaNumber + "/" + this.progressTotal;
+      this.progressStringWidth = this.textMeasurer.width(this.progressString);
+    }
+
+    this.lastProgressDate = this.findLastProgressDate();
+    this.version++;
+  }
+
+  private static int countCriteria(Iterable<String> criteria) {
+    long exactSize = criteria.spliterator().getExactSizeIfKnown();
+    if (exactSize >= 0) {
+      return (int) exactSize;
+    }
+    int numberOfCriteria = 0;
+    for (String ignored : criteria) {
+      numberOfCriteria++;
+    }
+    return numberOfCriteria;
+  }
+
+  public String getNamespace() {
+    return this.namespace;
+  }
+
+  public boolean isDone() {
+    return this.isDone;
+  }
+
+  public int getVersion() {
+    return this.version;
+  }
+
+  public int getMaxCriteraRequired() {
+    return this.maxCriteraRequired;
+  }
+
+  public int getCompletedCriteriaNumber() {
+    return this.completedCriteriaNumber;
+  }
+
+  public int getRemainingCriteriaNumber() {
+    return this.remainingCriteriaNumber;
+  }
+
+  public Date getFirstProgressDate() {
+    return this.firstProgressDate;
+  }
+
+  public Date getLastProgressDate() {
+    return this.lastProgressDate;
+  }
+
+  public String getProgressString() {
+    return this.progressString;
+  }
+
+  public int getProgressStringWidth() {
+    return this.progressStringWidth;
+  }
+
+  public int getProgressTotal() {
+    return this.progressTotal;
+  }
+
+  public float getProgress() {
+    return this.progress;
+  }
+
+  public Iterable<String> getCompletedCriteria() {
+    return this.completedCriteria;
+  }
+
+  public Iterable<String> getCompletedCriteriaHumanReadable() {
+    List<String> result = new ArrayList<>();
+    for (String criteria : this.completedCriteria) {
+      result.add(getHumanReadableName(criteria));
+    }
+    return result;
+  }
+
+  public Iterable<String> getRemainingCriteria() {
+    return this.remainingCriteria;
+  }
+
+  public Iterable<String> getRemainingCriteriaHumanReadable() {
+    List<String> result = new ArrayList<>();
+    for (String criteria : this.remainingCriteria) {
+      result.add(getHumanReadableName(criteria));
+    }
+    return result;
+  }
+
+  private Date findLastProgressDate() {
+    Date date = null;
+    for (String criteria : this.completedCriteria) {
+      Date obtainedDate = this.advancementProgress.getObtainedDate(criteria);
+      if (obtainedDate != null && (date == null || obtainedDate.after(date))) {
+        date = obtainedDate;
+      }
+    }
+    return date;
+  }
+
+  public String getHumanReadableName(String criteria) {
+    String humanReadableName =
+        CriterionNames.translate(this.id, this.namespace, criteria, this.translator);
+    if (humanReadableName == null) {
+      log.warn(
+          "Unable to translate {} ({}) to a more meaningful name.",
+          criteria,
+          CriterionNames.getAdvancementTranslationKey(this.id, criteria));
+      return criteria;
+    }
+    return humanReadableName;
+  }
+}
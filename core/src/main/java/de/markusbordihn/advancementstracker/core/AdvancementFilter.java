@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Filter for the advancements, which are shown and tracked by the mod. */
+public class AdvancementFilter {
+
+  protected static final Logger log = LogManager.getLogger(CoreConstants.LOG_NAME);
+
+  protected AdvancementFilter() {}
+
+  /** @return false for recipe advancements and advancements without display information. */
+  public static boolean isValidAdvancement(AdvancementNode advancementNode) {
+    String advancementId = advancementNode.getId();
+    if (advancementId.startsWith("minecraft:recipes/")
+        || advancementId.startsWith("smallships:recipes")) {
+      return false;
+    } else if (!advancementNode.hasDisplay()) {
+      log.debug("[Skip Advancement with no display information] {}", advancementId);
+      return false;
+    }
+    return true;
+  }
+}
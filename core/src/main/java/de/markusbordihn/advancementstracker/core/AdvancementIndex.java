@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Index of the known advancements grouped by their root advancement. Lookups by id are constant
+ * time, so that progress updates don't need to scan all known advancements.
+ */
+public class AdvancementIndex<E> {
+
+  private final Map<String, E> rootEntries = new HashMap<>();
+  private final Set<E> roots = new HashSet<>();
+  private final Map<String, E> entries = new HashMap<>();
+  private final Map<String, Set<E>> entriesByRoot = new HashMap<>();
+
+  /** @return true, if the root entry was added and was not known before. */
+  public boolean addRoot(String rootId, E rootEntry) {
+    if (contains(rootId)) {
+      return false;
+    }
+    this.rootEntries.put(rootId, rootEntry);
+    this.roots.add(rootEntry);
+    return true;
+  }
+
+  /** @return true, if the entry was added and was not known before. */
+  public boolean add(String rootId, String id, E entry) {
+    if (contains(id)) {
+      return false;
+    }
+    this.entries.put(id, entry);
+    this.entriesByRoot.computeIfAbsent(rootId, key -> new HashSet<>()).add(entry);
+    return true;
+  }
+
+  public boolean contains(String id) {
+    return this.entries.containsKey(id) || this.rootEntries.containsKey(id);
+  }
+
+  /** @return the non-root entry with the given id or null, if it is unknown. */
+  public E get(String id) {
+    return this.entries.get(id);
+  }
+
+  /** @return the root entry with the given id or null, if it is unknown. */
+  public E getRoot(String rootId) {
+    return this.rootEntries.get(rootId);
+  }
+
+  public Set<E> getRoots() {
+    return this.roots;
+  }
+
+  public Set<E> getEntries(String rootId) {
+    Set<E> childEntries = this.entriesByRoot.get(rootId);
+    return childEntries != null ? childEntries : Collections.emptySet();
+  }
+
+  public Set<E> getSortedEntries(String rootId, Comparator<? super E> comparator) {
+    return sort(getEntries(rootId), comparator);
+  }
+
+  public Set<E> getSortedRoots(Comparator<? super E> comparator) {
+    return sort(this.roots, comparator);
+  }
+
+  public int getNumberOfRoots() {
+    return this.roots.size();
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public boolean isEmpty() {
+    return this.entries.isEmpty();
+  }
+
+  private static <E> Set<E> sort(Set<E> entriesToSort, Comparator<? super E> comparator) {
+    return entriesToSort.isEmpty()
+        ? entriesToSort
+        : entriesToSort.stream()
+            .sorted(comparator)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+/** Single node of the advancement tree, independent of the game classes. */
+public interface AdvancementNode {
+
+  String getId();
+
+  /** @return parent node or null, if this is a root node. */
+  AdvancementNode getParent();
+
+  String getTitle();
+
+  String getDescription();
+
+  String[][] getRequirements();
+
+  /** @return true, if the advancement has display information like a title and an icon. */
+  boolean hasDisplay();
+
+  default boolean isRoot() {
+    return getParent() == null;
+  }
+
+  default AdvancementNode getRoot() {
+    AdvancementNode rootNode = this;
+    while (rootNode.getParent() != null) {
+      rootNode = rootNode.getParent();
+    }
+    return rootNode;
+  }
+
+  default int getRootLevel() {
+    int rootLevel = 0;
+    AdvancementNode parentNode = getParent();
+    while (parentNode != null && parentNode.getParent() != null) {
+      parentNode = parentNode.getParent();
+      rootLevel++;
+    }
+    return rootLevel;
+  }
+
+  default String getNamespace() {
+    int separatorIndex = getId().indexOf(':');
+    return separatorIndex > 0 ? getId().substring(0, separatorIndex) : "minecraft";
+  }
+}
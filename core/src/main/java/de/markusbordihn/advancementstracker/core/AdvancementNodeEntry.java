@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Model of a single advancement with its text, sizes and progress. The client extends it with the
+ * display information of the game, like icons, colors and rewards.
+ */
+public class AdvancementNodeEntry {
+
+  private static final Pattern FORMATTING_CODE_PATTERN = Pattern.compile("(?i)\u00A7[0-9A-FK-OR]");
+
+  // General
+  private final AdvancementNode advancementNode;
+  private final String idString;
+  private final String rootIdString;
+  private final int rootLevel;
+  // Text
+  private final String description;
+  private final String title;
+  private final String plainDescription;
+  private final String plainTitle;
+  private final String lowerCaseDescription;
+  private final String lowerCaseTitle;
+  private final int titleWidth;
+  // Progress
+  private final AdvancementEntryProgress advancementProgress;
+
+  /**
+   * @param advancementProgress last known progress or null, if there is no progress yet.
+   * @param translator returns the translation for a key or null, if there is no translation.
+   */
+  public AdvancementNodeEntry(
+      AdvancementNode advancementNode,
+      AdvancementNodeProgress advancementProgress,
+      TextMeasurer textMeasurer,
+      UnaryOperator<String> translator) {
+    this.advancementNode = advancementNode;
+    this.idString = advancementNode.getId();
+    this.rootIdString = advancementNode.isRoot() ? null : advancementNode.getRoot().getId();
+    this.rootLevel = advancementNode.getRootLevel();
+
+    // Title and description, with a plain and lower case version for the layout and search.
+    this.title = advancementNode.getTitle() != null ? advancementNode.getTitle() : this.idString;
+    this.description =
+        advancementNode.getDescription() != null ? advancementNode.getDescription() : "";
+    this.plainTitle = stripFormattingCodes(this.title);
+    this.plainDescription = stripFormattingCodes(this.description);
+    this.lowerCaseTitle = this.plainTitle.toLowerCase(Locale.ROOT);
+    this.lowerCaseDescription = this.plainDescription.toLowerCase(Locale.ROOT);
+    this.titleWidth = textMeasurer.width(this.plainTitle);
+
+    // Advancement Progress
+    this.advancementProgress =
+        new AdvancementEntryProgress(
+            advancementNode, advancementProgress, textMeasurer, translator);
+  }
+
+  public static String stripFormattingCodes(String value) {
+    return value == null ? "" : FORMATTING_CODE_PATTERN.matcher(value).replaceAll("");
+  }
+
+  public AdvancementNode getAdvancementNode() {
+    return this.advancementNode;
+  }
+
+  public String getIdString() {
+    return this.idString;
+  }
+
+  /** @return id of the root advancement or null, if this is a root advancement. */
+  public String getRootIdString() {
+    return this.rootIdString;
+  }
+
+  public int getRootLevel() {
+    return this.rootLevel;
+  }
+
+  public String getDescriptionString() {
+    return this.description;
+  }
+
+  public String getPlainDescription() {
+    return this.plainDescription;
+  }
+
+  public String getLowerCaseDescription() {
+    return this.lowerCaseDescription;
+  }
+
+  public String getTitleString() {
+    return this.title;
+  }
+
+  public String getPlainTitle() {
+    return this.plainTitle;
+  }
+
+  public String getLowerCaseTitle() {
+    return this.lowerCaseTitle;
+  }
+
+  public String getSortName() {
+    return this.lowerCaseTitle;
+  }
+
+  public int getTitleWidth() {
+    return this.titleWidth;
+  }
+
+  public AdvancementEntryProgress getProgress() {
+    return this.advancementProgress;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof AdvancementNodeEntry)) {
+      return false;
+    }
+    return this.idString.equals(((AdvancementNodeEntry) object).idString);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.idString.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "[Advancement %s] %s => %s: %s %s",
+        this.rootLevel,
+        this.rootIdString,
+        this.idString,
+        this.title,
+        this.advancementProgress.getProgress());
+  }
+}
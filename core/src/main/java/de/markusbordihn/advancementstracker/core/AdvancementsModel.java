@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Known advancements with their progress, grouped by their root advancement. New advancements are
+ * checked against the tracked advancements and progress updates are forwarded to them.
+ */
+public class AdvancementsModel<E extends AdvancementNodeEntry> {
+
+  protected static final Logger log = LogManager.getLogger(CoreConstants.LOG_NAME);
+
+  private final BiFunction<AdvancementNode, AdvancementNodeProgress, E> entryFactory;
+  private final TrackedAdvancements<E> trackedAdvancements;
+  private Map<String, AdvancementNodeProgress> advancementProgressMap = new HashMap<>();
+  private AdvancementIndex<E> advancementIndex = new AdvancementIndex<>();
+
+  // Version of the advancements data, which is increased with every change.
+  private int version = 0;
+
+  /**
+   * @param entryFactory creates the entry for an advancement with its last known progress, which
+   *     could be null.
+   */
+  public AdvancementsModel(
+      BiFunction<AdvancementNode, AdvancementNodeProgress, E> entryFactory,
+      TrackedAdvancements<E> trackedAdvancements) {
+    this.entryFactory = entryFactory;
+    this.trackedAdvancements = trackedAdvancements;
+  }
+
+  public void clear() {
+    this.advancementProgressMap = new HashMap<>();
+    this.advancementIndex = new AdvancementIndex<>();
+    this.version++;
+  }
+
+  /** Handles a new root advancement of the client advancements listener. */
+  public void handleAddAdvancementRoot(AdvancementNode advancementNode) {
+    if (AdvancementFilter.isValidAdvancement(advancementNode) && advancementNode.isRoot()) {
+      log.debug("[Add Advancement Root] {}", advancementNode.getId());
+      addRoot(advancementNode);
+    }
+  }
+
+  /** Handles a new child advancement of the client advancements listener. */
+  public void handleAddAdvancementTask(AdvancementNode advancementNode) {
+    if (AdvancementFilter.isValidAdvancement(advancementNode) && !advancementNode.isRoot()) {
+      log.debug("[Add Advancement Task] {}", advancementNode.getId());
+      addTask(advancementNode);
+    }
+  }
+
+  /** Handles a progress update of the client advancements listener. */
+  public void handleUpdateAdvancementProgress(
+      AdvancementNode advancementNode, AdvancementNodeProgress advancementProgress) {
+    if (AdvancementFilter.isValidAdvancement(advancementNode)) {
+      log.debug(
+          "[Update Advancement Progress] {} with {}", advancementNode.getId(), advancementProgress);
+      updateProgress(advancementNode, advancementProgress);
+    }
+  }
+
+  public void addRoot(AdvancementNode advancementNode) {
+    String advancementId = advancementNode.getId();
+    if (this.advancementIndex.contains(advancementId)) {
+      return;
+    }
+    E advancementEntry = this.entryFactory.apply(advancementNode, getProgress(advancementId));
+    this.advancementIndex.addRoot(advancementId, advancementEntry);
+    this.version++;
+    log.debug("Added Root Advancement: {}", advancementEntry);
+  }
+
+  public void addTask(AdvancementNode advancementNode) {
+    String advancementId = advancementNode.getId();
+
+    // Try to add root advancement, if this is a child advancement.
+    AdvancementNode rootAdvancementNode =
+        advancementNode.isRoot() ? null : advancementNode.getRoot();
+    if (rootAdvancementNode != null) {
+      addRoot(rootAdvancementNode);
+    }
+
+    // Skip rest, if the advancement is already known.
+    if (this.advancementIndex.contains(advancementId)) {
+      return;
+    }
+
+    // Get advancements stats and store the advancement data.
+    E advancementEntry = this.entryFactory.apply(advancementNode, getProgress(advancementId));
+    this.advancementIndex.add(
+        rootAdvancementNode != null ? rootAdvancementNode.getId() : null,
+        advancementId,
+        advancementEntry);
+    this.version++;
+    log.debug("Added Advancement Task: {}", advancementEntry);
+    this.trackedAdvancements.checkForTrackedAdvancement(advancementEntry);
+  }
+
+  public void updateProgress(
+      AdvancementNode advancementNode, AdvancementNodeProgress advancementProgress) {
+    String advancementId = advancementNode.getId();
+    this.advancementProgressMap.put(advancementId, advancementProgress);
+    E advancementEntry = this.advancementIndex.get(advancementId);
+    if (advancementEntry == null) {
+      advancementEntry = this.advancementIndex.getRoot(advancementId);
+      if (advancementEntry == null) {
+        log.error(
+            "Unable to find entry for advancement {} with progress {}",
+            advancementId,
+            advancementProgress);
+        return;
+      }
+    }
+    advancementEntry.getProgress().update(advancementProgress);
+    this.version++;
+    if (advancementProgress.isDone()) {
+      this.trackedAdvancements.untrackAdvancement(advancementId);
+    } else {
+      this.trackedAdvancements.updateTrackedAdvancementProgress(advancementEntry);
+    }
+  }
+
+  /** @return last known progress of the advancement or null, if there is no progress yet. */
+  public AdvancementNodeProgress getProgress(String advancementId) {
+    return this.advancementProgressMap.get(advancementId);
+  }
+
+  public AdvancementIndex<E> getIndex() {
+    return this.advancementIndex;
+  }
+
+  public TrackedAdvancements<E> getTrackedAdvancements() {
+    return this.trackedAdvancements;
+  }
+
+  public int getVersion() {
+    return this.version;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Maps criterion names like "minecraft:oak_log" to readable names, by trying the translation keys
+ * of items, blocks, entities, enchantments, effects and biomes of the advancement namespace and of
+ * the minecraft namespace.
+ */
+public class CriterionNames {
+
+  private static final String DEFAULT_NAMESPACE = "minecraft";
+  private static final String[] TRANSLATION_TYPES = {
+    "item", "block", "entity", "enchantment", "effect", "biome"
+  };
+
+  protected CriterionNames() {}
+
+  /**
+   * @param translator returns the translation for a key or null, if there is no translation.
+   * @return translated criterion name or null, if no matching translation was found.
+   */
+  public static String translate(
+      String advancementId, String namespace, String criterion, UnaryOperator<String> translator) {
+    if (namespace != null) {
+      String translation = translate(namespace, criterion, translator);
+      if (translation != null) {
+        return translation;
+      }
+      if (!DEFAULT_NAMESPACE.equals(namespace)) {
+        translation = translate(DEFAULT_NAMESPACE, criterion, translator);
+        if (translation != null) {
+          return translation;
+        }
+      }
+    }
+    return translator.apply(getAdvancementTranslationKey(advancementId, criterion));
+  }
+
+  public static String getAdvancementTranslationKey(String advancementId, String criterion) {
+    return "advancement."
+        + advancementId.replace(":", ".").replace("/", ".")
+        + "."
+        + criterion.replace(":", ".").replace("/", ".");
+  }
+
+  private static String translate(
+      String namespace, String criterion, UnaryOperator<String> translator) {
+    // Normalize names for the namespace.
+    String namespacePrefix = namespace + ":";
+    String criterionName =
+        criterion.startsWith(namespacePrefix) ? criterion.replace(namespacePrefix, "") : criterion;
+    String keySuffix = "." + namespace + "." + criterionName;
+    for (String translationType : TRANSLATION_TYPES) {
+      String translation = translator.apply(translationType + keySuffix);
+      if (translation != null) {
+        return translation;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Ordered tracked advancements of the current world, pinned advancements are always placed first.
+ * The stored order is restored while the advancements are added.
+ */
+public class TrackedAdvancements<E extends AdvancementNodeEntry> {
+
+  protected static final Logger log = LogManager.getLogger(CoreConstants.LOG_NAME);
+
+  private final BooleanSupplier autoOrder;
+  private final Runnable changeListener;
+
+  private final Map<String, E> trackedAdvancements = new HashMap<>();
+  private final Map<String, Integer> trackedAdvancementsPerRoot = new HashMap<>();
+  private final Map<String, Integer> trackedAdvancementsPreset = new HashMap<>();
+  private final Map<String, Integer> trackedAdvancementsRank = new HashMap<>();
+  private final Set<String> pinnedAdvancementsPreset = new HashSet<>();
+  private final Set<String> pinnedAdvancements = new HashSet<>();
+  private final List<E> trackedAdvancementsOrder = new ArrayList<>();
+  private final List<E> trackedAdvancementsView =
+      Collections.unmodifiableList(this.trackedAdvancementsOrder);
+  private TrackedAdvancementsStore store;
+  private String serverId;
+
+  /**
+   * @param autoOrder returns true, if the tracked advancements are ordered by their progress.
+   * @param changeListener is called after every change of the tracked advancements.
+   */
+  public TrackedAdvancements(BooleanSupplier autoOrder, Runnable changeListener) {
+    this.autoOrder = autoOrder;
+    this.changeListener = changeListener;
+  }
+
+  /**
+   * Drops all tracked advancements and loads the stored ones for the given server, which are added
+   * as soon as they are known.
+   *
+   * @param serverId id of the server or null for the local world.
+   * @param defaultTrackedAdvancements additional tracked advancements, e.g. from the config.
+   */
+  public void load(
+      TrackedAdvancementsStore store, String serverId, List<String> defaultTrackedAdvancements) {
+    this.store = store;
+    this.serverId = serverId;
+    this.trackedAdvancements.clear();
+    this.trackedAdvancementsPerRoot.clear();
+    this.trackedAdvancementsOrder.clear();
+    this.pinnedAdvancements.clear();
+    log.info("Preparing tracked advancements ...");
+
+    // Loading default (over config file) tracked advancements.
+    if (!defaultTrackedAdvancements.isEmpty()) {
+      log.info("Loading default (config) tracked advancements: {}", defaultTrackedAdvancements);
+    }
+
+    // Loading local (user) or remote tracked advancements for the current server only.
+    List<String> trackedAdvancementsCache = store.getTrackedAdvancements(serverId);
+    if (!trackedAdvancementsCache.isEmpty()) {
+      if (serverId == null) {
+        log.info("Loading local (user) tracked advancements: {}", trackedAdvancementsCache);
+      } else {
+        log.info(
+            "Loading remote ({}) tracked advancements: {} ...", serverId, trackedAdvancementsCache);
+      }
+    }
+
+    // Parse the lists once, so that the ingestion only needs a single lookup, which also returns
+    // the stored position of the advancement.
+    this.trackedAdvancementsPreset.clear();
+    for (String trackedAdvancement : trackedAdvancementsCache) {
+      this.trackedAdvancementsPreset.putIfAbsent(
+          trackedAdvancement, this.trackedAdvancementsPreset.size());
+    }
+    for (String trackedAdvancementDefault : defaultTrackedAdvancements) {
+      if (!trackedAdvancementDefault.isEmpty()) {
+        this.trackedAdvancementsPreset.putIfAbsent(
+            trackedAdvancementDefault, this.trackedAdvancementsPreset.size());
+      }
+    }
+    this.trackedAdvancementsRank.clear();
+    this.trackedAdvancementsRank.putAll(this.trackedAdvancementsPreset);
+    this.pinnedAdvancementsPreset.clear();
+    this.pinnedAdvancementsPreset.addAll(store.getPinnedAdvancements(serverId));
+  }
+
+  public void checkForTrackedAdvancement(E advancement) {
+    // Ignore advancements which are done.
+    if (advancement.getProgress().isDone()) {
+      return;
+    }
+    if (this.trackedAdvancementsPreset.containsKey(advancement.getIdString())) {
+      log.debug("Adding tracked advancement {}", advancement);
+      if (this.pinnedAdvancementsPreset.contains(advancement.getIdString())) {
+        this.pinnedAdvancements.add(advancement.getIdString());
+      }
+      trackAdvancement(advancement, false);
+    }
+  }
+
+  public void updateTrackedAdvancementProgress(E advancement) {
+    if (isTrackedAdvancement(advancement) && this.autoOrder.getAsBoolean()) {
+      updateOrder();
+    }
+  }
+
+  public void toggleTrackedAdvancement(E advancement) {
+    if (advancement.getProgress().isDone()) {
+      return;
+    }
+    if (isTrackedAdvancement(advancement)) {
+      untrackAdvancement(advancement.getIdString());
+    } else {
+      trackAdvancement(advancement, true);
+    }
+  }
+
+  public void trackAdvancement(E advancement, boolean autosave) {
+    if (!addTrackedAdvancement(advancement)) {
+      return;
+    }
+    if (autosave) {
+      saveTrackedAdvancements();
+    }
+    updateOrder();
+  }
+
+  public void trackAdvancements(Collection<E> advancements) {
+    int numberOfChanges = 0;
+    for (E advancement : advancements) {
+      if (addTrackedAdvancement(advancement)) {
+        numberOfChanges++;
+      }
+    }
+    if (numberOfChanges > 0) {
+      log.info("Tracked {} advancements", numberOfChanges);
+      saveTrackedAdvancements();
+      updateOrder();
+    }
+  }
+
+  /**
+   * Untracks all advancements of the root advancement, if any of them is tracked. Otherwise all of
+   * the given advancements, which are not done, are tracked.
+   */
+  public void toggleTrackedAdvancements(E rootAdvancement, Collection<E> advancements) {
+    List<E> changedAdvancements = new ArrayList<>();
+    if (hasTrackedAdvancement(rootAdvancement)) {
+      for (E trackedAdvancementEntry : this.trackedAdvancements.values()) {
+        if (rootAdvancement.getIdString().equals(trackedAdvancementEntry.getRootIdString())) {
+          changedAdvancements.add(trackedAdvancementEntry);
+        }
+      }
+      untrackAdvancements(changedAdvancements);
+    } else {
+      for (E advancementEntry : advancements) {
+        if (!advancementEntry.getProgress().isDone()) {
+          changedAdvancements.add(advancementEntry);
+        }
+      }
+      trackAdvancements(changedAdvancements);
+    }
+  }
+
+  private boolean addTrackedAdvancement(E advancement) {
+    if (advancement.getProgress().isDone()) {
+      log.warn("Advancement {} is already done, no need to track it.", advancement);
+      return false;
+    }
+    if (this.trackedAdvancements.containsKey(advancement.getIdString())) {
+      log.warn("Advancement {} is already tracked.", advancement);
+      return false;
+    }
+    log.info("Track Advancement {}", advancement);
+    this.trackedAdvancements.put(advancement.getIdString(), advancement);
+    this.trackedAdvancementsOrder.add(getInsertPosition(advancement), advancement);
+    if (advancement.getRootIdString() != null) {
+      this.trackedAdvancementsPerRoot.merge(advancement.getRootIdString(), 1, Integer::sum);
+    }
+    return true;
+  }
+
+  private int getInsertPosition(E advancement) {
+    // The order is sorted by the pinned state and the rank, so the position could be found with a
+    // binary search. Pre-defined advancements are placed on their stored position, new ones at
+    // the end of their group.
+    boolean isPinned = isPinnedAdvancement(advancement);
+    int rank = getRank(advancement);
+    int low = 0;
+    int high = this.trackedAdvancementsOrder.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      E trackedAdvancementEntry = this.trackedAdvancementsOrder.get(middle);
+      boolean isTrackedPinned = isPinnedAdvancement(trackedAdvancementEntry);
+      if ((isTrackedPinned && !isPinned)
+          || (isPinned == isTrackedPinned && getRank(trackedAdvancementEntry) <= rank)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private int getRank(E advancement) {
+    return this.trackedAdvancementsRank.getOrDefault(advancement.getIdString(), Integer.MAX_VALUE);
+  }
+
+  private void updateRanks() {
+    // Keep the ranks in sync with manual or automatic changes of the order.
+    for (int position = 0; position < this.trackedAdvancementsOrder.size(); position++) {
+      this.trackedAdvancementsRank.put(
+          this.trackedAdvancementsOrder.get(position).getIdString(), position);
+    }
+  }
+
+  /** @return true, if the order could be changed manually and is not ordered by progress. */
+  public boolean canMoveTrackedAdvancements() {
+    return !this.autoOrder.getAsBoolean();
+  }
+
+  public void togglePinnedAdvancement(E advancement) {
+    if (!this.trackedAdvancementsOrder.remove(advancement)) {
+      return;
+    }
+    if (!this.pinnedAdvancements.remove(advancement.getIdString())) {
+      this.pinnedAdvancements.add(advancement.getIdString());
+    }
+
+    // Pinned advancements are added to the end of the pinned group and unpinned advancements to
+    // the beginning of the unpinned group.
+    int position = 0;
+    while (position < this.trackedAdvancementsOrder.size()
+        && isPinnedAdvancement(this.trackedAdvancementsOrder.get(position))) {
+      position++;
+    }
+    this.trackedAdvancementsOrder.add(position, advancement);
+    updateRanks();
+    saveTrackedAdvancements();
+    updateOrder();
+  }
+
+  public void moveTrackedAdvancementUp(E advancement) {
+    moveTrackedAdvancement(advancement, -1);
+  }
+
+  public void moveTrackedAdvancementDown(E advancement) {
+    moveTrackedAdvancement(advancement, 1);
+  }
+
+  private void moveTrackedAdvancement(E advancement, int direction) {
+    // Manual changes would be discarded by the automatic order.
+    if (!canMoveTrackedAdvancements()) {
+      return;
+    }
+    int position = this.trackedAdvancementsOrder.indexOf(advancement);
+    int newPosition = position + direction;
+    if (position < 0 || newPosition < 0 || newPosition >= this.trackedAdvancementsOrder.size()) {
+      return;
+    }
+
+    // Advancements could be only moved within their group (pinned or unpinned).
+    E otherAdvancement = this.trackedAdvancementsOrder.get(newPosition);
+    if (isPinnedAdvancement(advancement) != isPinnedAdvancement(otherAdvancement)) {
+      return;
+    }
+    this.trackedAdvancementsOrder.set(newPosition, advancement);
+    this.trackedAdvancementsOrder.set(position, otherAdvancement);
+    updateRanks();
+    saveTrackedAdvancements();
+    updateOrder();
+  }
+
+  private void sortTrackedAdvancementsByProgress() {
+    // Closest to completion first, the sort is stable and keeps the order for equal progress.
+    this.trackedAdvancementsOrder.sort(
+        Comparator.comparing((E entry) -> !isPinnedAdvancement(entry))
+            .thenComparing(
+                entry -> entry.getProgress().getProgress(), Comparator.reverseOrder()));
+    updateRanks();
+  }
+
+  private void saveTrackedAdvancements() {
+    if (this.store == null) {
+      return;
+    }
+    List<String> trackedAdvancementsToSave = new ArrayList<>();
+    List<String> pinnedAdvancementsToSave = new ArrayList<>();
+    for (E trackedAdvancementEntry : this.trackedAdvancementsOrder) {
+      trackedAdvancementsToSave.add(trackedAdvancementEntry.getIdString());
+      if (isPinnedAdvancement(trackedAdvancementEntry)) {
+        pinnedAdvancementsToSave.add(trackedAdvancementEntry.getIdString());
+      }
+    }
+    this.store.setTrackedAdvancements(
+        this.serverId, trackedAdvancementsToSave, pinnedAdvancementsToSave);
+  }
+
+  public void untrackAdvancement(String advancementId) {
+    if (removeTrackedAdvancement(advancementId)) {
+      saveTrackedAdvancements();
+      updateOrder();
+    }
+  }
+
+  public void untrackAdvancements(Collection<E> advancements) {
+    int numberOfChanges = 0;
+    for (E advancement : advancements) {
+      if (removeTrackedAdvancement(advancement.getIdString())) {
+        numberOfChanges++;
+      }
+    }
+    if (numberOfChanges > 0) {
+      log.info("Untracked {} advancements", numberOfChanges);
+      saveTrackedAdvancements();
+      updateOrder();
+    }
+  }
+
+  private boolean removeTrackedAdvancement(String advancementId) {
+    E existingAdvancementEntry = this.trackedAdvancements.remove(advancementId);
+    if (existingAdvancementEntry == null) {
+      return false;
+    }
+    this.trackedAdvancementsOrder.remove(existingAdvancementEntry);
+    this.pinnedAdvancements.remove(advancementId);
+    if (existingAdvancementEntry.getRootIdString() != null) {
+      this.trackedAdvancementsPerRoot.computeIfPresent(
+          existingAdvancementEntry.getRootIdString(),
+          (rootId, counter) -> counter > 1 ? counter - 1 : null);
+    }
+    return true;
+  }
+
+  public int numOfTrackedAdvancements() {
+    return this.trackedAdvancements.size();
+  }
+
+  public boolean hasTrackedAdvancement(E rootAdvancementEntry) {
+    return this.trackedAdvancementsPerRoot.containsKey(rootAdvancementEntry.getIdString());
+  }
+
+  public int numOfTrackedAdvancements(E rootAdvancementEntry) {
+    return this.trackedAdvancementsPerRoot.getOrDefault(rootAdvancementEntry.getIdString(), 0);
+  }
+
+  public boolean hasTrackedAdvancements() {
+    return !this.trackedAdvancements.isEmpty();
+  }
+
+  public boolean isTrackedAdvancement(E advancementEntry) {
+    return isTrackedAdvancement(advancementEntry.getIdString());
+  }
+
+  public boolean isTrackedAdvancement(String advancementId) {
+    return this.trackedAdvancements.containsKey(advancementId);
+  }
+
+  public boolean isPinnedAdvancement(E advancementEntry) {
+    return this.pinnedAdvancements.contains(advancementEntry.getIdString());
+  }
+
+  /** @return stable ordered view of the tracked advancements, pinned advancements first. */
+  public List<E> getTrackedAdvancements() {
+    return this.trackedAdvancementsView;
+  }
+
+  public void updateOrder() {
+    if (this.autoOrder.getAsBoolean()) {
+      sortTrackedAdvancementsByProgress();
+    }
+    this.changeListener.run();
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Tracked and pinned advancements for the local world and per server. Server records are evicted
+ * after the configured retention or if there are too many servers.
+ */
+public class TrackedAdvancementsStore {
+
+  protected static final Logger log = LogManager.getLogger(CoreConstants.LOG_NAME);
+
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+  private static final String LOCAL_FILE_NAME = "tracked_advancements.json";
+  private static final String SERVER_INDEX_FILE_NAME = "tracked_servers.json";
+  private static final String SERVER_DIRECTORY_NAME = "servers";
+  private static final long DAY_IN_MILLISECONDS = 24L * 60 * 60 * 1000;
+
+  private final TrackedAdvancementsStorage storage;
+  private final int serverRetentionDays;
+  private final int maxServers;
+  private final List<String> legacyTrackedAdvancementsLocal;
+  private final List<String> legacyTrackedAdvancementsRemote;
+
+  // Known servers by server hash, ordered from the least to the most recently visited server.
+  private final Map<String, ServerRecord> serverIndex = new LinkedHashMap<>();
+  private final Map<String, TrackedRecord> serverTrackedAdvancements = new HashMap<>();
+  private TrackedRecord localTrackedAdvancements = new TrackedRecord();
+  private boolean loaded = false;
+  private boolean legacyTrackedAdvancementsMigrated = false;
+
+  public TrackedAdvancementsStore(
+      TrackedAdvancementsStorage storage, int serverRetentionDays, int maxServers) {
+    this(storage, serverRetentionDays, maxServers, List.of(), List.of());
+  }
+
+  /**
+   * @param serverRetentionDays days after which unvisited servers are evicted, 0 = never.
+   * @param legacyTrackedAdvancementsLocal tracked advancements of older versions, which are only
+   *     used if there is no local file yet.
+   * @param legacyTrackedAdvancementsRemote tracked advancements of older versions with a server
+   *     prefix, which are only used if there is no local file yet.
+   */
+  public TrackedAdvancementsStore(
+      TrackedAdvancementsStorage storage,
+      int serverRetentionDays,
+      int maxServers,
+      List<String> legacyTrackedAdvancementsLocal,
+      List<String> legacyTrackedAdvancementsRemote) {
+    this.storage = storage;
+    this.serverRetentionDays = serverRetentionDays;
+    this.maxServers = maxServers;
+    this.legacyTrackedAdvancementsLocal = legacyTrackedAdvancementsLocal;
+    this.legacyTrackedAdvancementsRemote = legacyTrackedAdvancementsRemote;
+  }
+
+  public TrackedAdvancementsStorage getStorage() {
+    return this.storage;
+  }
+
+  public static String getServerHash(String serverId) {
+    return UUID.nameUUIDFromBytes(serverId.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  public List<String> getTrackedAdvancements(String serverId) {
+    load();
+    if (serverId == null) {
+      return new ArrayList<>(localTrackedAdvancements.tracked);
+    }
+
+    // Server records are only loaded on demand for the current server.
+    String serverHash = getServerHash(serverId);
+    TrackedRecord trackedRecord =
+        serverTrackedAdvancements.computeIfAbsent(serverHash, this::loadServerRecord);
+
+    // Mark server as most recently visited and evict outdated servers.
+    ServerRecord serverRecord = serverIndex.remove(serverHash);
+    if (serverRecord == null) {
+      serverRecord = new ServerRecord(serverId);
+    }
+    serverRecord.lastVisited = System.currentTimeMillis();
+    serverIndex.put(serverHash, serverRecord);
+    evictServers();
+    saveServerIndex();
+
+    return new ArrayList<>(trackedRecord.tracked);
+  }
+
+  public List<String> getPinnedAdvancements(String serverId) {
+    load();
+    if (serverId == null) {
+      return new ArrayList<>(localTrackedAdvancements.pinned);
+    }
+    return new ArrayList<>(
+        serverTrackedAdvancements.computeIfAbsent(getServerHash(serverId), this::loadServerRecord)
+            .pinned);
+  }
+
+  public void setTrackedAdvancements(String serverId, Collection<String> advancementIds) {
+    setTrackedAdvancements(serverId, advancementIds, List.of());
+  }
+
+  public void setTrackedAdvancements(
+      String serverId, Collection<String> advancementIds, Collection<String> pinnedIds) {
+    load();
+    TrackedRecord trackedRecord = new TrackedRecord();
+    readList(advancementIds, trackedRecord.tracked);
+    for (String pinnedId : pinnedIds) {
+      if (trackedRecord.tracked.contains(pinnedId)) {
+        trackedRecord.pinned.add(pinnedId);
+      }
+    }
+    if (serverId == null) {
+      localTrackedAdvancements = trackedRecord;
+      saveLocal();
+      return;
+    }
+
+    String serverHash = getServerHash(serverId);
+    serverTrackedAdvancements.put(serverHash, trackedRecord);
+    if (!serverIndex.containsKey(serverHash)) {
+      ServerRecord serverRecord = new ServerRecord(serverId);
+      serverRecord.lastVisited = System.currentTimeMillis();
+      serverIndex.put(serverHash, serverRecord);
+      saveServerIndex();
+    }
+    saveServerRecord(serverHash, serverId, trackedRecord);
+  }
+
+  /**
+   * @return true, if the legacy tracked advancements of the constructor are migrated to or
+   *     superseded by the local file and are no longer needed.
+   */
+  public boolean isLegacyTrackedAdvancementsMigrated() {
+    load();
+    return legacyTrackedAdvancementsMigrated;
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+
+    // Local tracked advancements and legacy remote entries.
+    Collection<String> legacyTrackedAdvancementsRemote = new LinkedHashSet<>();
+    JsonObject localObject = readJsonObject(getLocalFileName());
+    if (localObject != null) {
+      readList(getAsJsonArray(localObject, "local"), localTrackedAdvancements.tracked);
+      readList(getAsJsonArray(localObject, "localPinned"), localTrackedAdvancements.pinned);
+      readList(getAsJsonArray(localObject, "remote"), legacyTrackedAdvancementsRemote);
+      legacyTrackedAdvancementsMigrated = true;
+    } else {
+      readList(this.legacyTrackedAdvancementsLocal, localTrackedAdvancements.tracked);
+      readList(this.legacyTrackedAdvancementsRemote, legacyTrackedAdvancementsRemote);
+      if (!localTrackedAdvancements.tracked.isEmpty()) {
+        saveLocal();
+        legacyTrackedAdvancementsMigrated = true;
+      }
+    }
+
+    // Server index with the last visit of each known server.
+    JsonObject serverIndexObject = readJsonObject(getServerIndexFileName());
+    if (serverIndexObject != null) {
+      List<Map.Entry<String, ServerRecord>> serverRecords = new ArrayList<>();
+      for (Map.Entry<String, JsonElement> entry : serverIndexObject.entrySet()) {
+        if (entry.getValue().isJsonObject()) {
+          JsonObject serverObject = entry.getValue().getAsJsonObject();
+          ServerRecord serverRecord = new ServerRecord(getAsString(serverObject, "serverId"));
+          serverRecord.lastVisited = getAsLong(serverObject, "lastVisited");
+          serverRecords.add(Map.entry(entry.getKey(), serverRecord));
+        }
+      }
+      serverRecords.sort(Comparator.comparingLong(entry -> entry.getValue().lastVisited));
+      for (Map.Entry<String, ServerRecord> entry : serverRecords) {
+        serverIndex.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    if (!legacyTrackedAdvancementsRemote.isEmpty()) {
+      migrateLegacyTrackedAdvancementsRemote(legacyTrackedAdvancementsRemote);
+      saveLocal();
+      legacyTrackedAdvancementsMigrated = true;
+    }
+    if (evictServers()) {
+      saveServerIndex();
+    }
+  }
+
+  private void migrateLegacyTrackedAdvancementsRemote(Collection<String> trackedAdvancements) {
+    log.info("Migrating {} remote tracked advancements ...", trackedAdvancements.size());
+    Map<String, List<String>> trackedAdvancementsByServer = new LinkedHashMap<>();
+    for (String trackedAdvancement : trackedAdvancements) {
+      int separatorIndex = trackedAdvancement.indexOf("::");
+      if (separatorIndex > 0 && separatorIndex + 2 < trackedAdvancement.length()) {
+        trackedAdvancementsByServer
+            .computeIfAbsent(
+                trackedAdvancement.substring(0, separatorIndex + 2), key -> new ArrayList<>())
+            .add(trackedAdvancement.substring(separatorIndex + 2));
+      }
+    }
+    for (Map.Entry<String, List<String>> entry : trackedAdvancementsByServer.entrySet()) {
+      setTrackedAdvancements(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /** @return true, if at least one server was evicted. */
+  private boolean evictServers() {
+    long oldestVisit =
+        this.serverRetentionDays > 0
+            ? System.currentTimeMillis() - this.serverRetentionDays * DAY_IN_MILLISECONDS
+            : 0;
+    int numberOfServers = serverIndex.size();
+    boolean evicted = false;
+    Iterator<Map.Entry<String, ServerRecord>> iterator = serverIndex.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, ServerRecord> entry = iterator.next();
+      if (numberOfServers <= this.maxServers && entry.getValue().lastVisited >= oldestVisit) {
+        break;
+      }
+      log.debug("Evicting tracked advancements for server {}", entry.getValue().serverId);
+      serverTrackedAdvancements.remove(entry.getKey());
+      this.storage.delete(getServerRecordFileName(entry.getKey()));
+      iterator.remove();
+      numberOfServers--;
+      evicted = true;
+    }
+    return evicted;
+  }
+
+  private TrackedRecord loadServerRecord(String serverHash) {
+    TrackedRecord trackedRecord = new TrackedRecord();
+    JsonObject serverObject = readJsonObject(getServerRecordFileName(serverHash));
+    if (serverObject != null) {
+      readList(getAsJsonArray(serverObject, "tracked"), trackedRecord.tracked);
+      readList(getAsJsonArray(serverObject, "pinned"), trackedRecord.pinned);
+    }
+    return trackedRecord;
+  }
+
+  private void saveLocal() {
+    JsonObject localObject = new JsonObject();
+    localObject.add("local", writeList(localTrackedAdvancements.tracked));
+    localObject.add("localPinned", writeList(localTrackedAdvancements.pinned));
+    this.storage.write(getLocalFileName(), GSON.toJson(localObject));
+  }
+
+  private void saveServerIndex() {
+    JsonObject serverIndexObject = new JsonObject();
+    for (Map.Entry<String, ServerRecord> entry : serverIndex.entrySet()) {
+      JsonObject serverObject = new JsonObject();
+      serverObject.addProperty("serverId", entry.getValue().serverId);
+      serverObject.addProperty("lastVisited", entry.getValue().lastVisited);
+      serverIndexObject.add(entry.getKey(), serverObject);
+    }
+    this.storage.write(getServerIndexFileName(), GSON.toJson(serverIndexObject));
+  }
+
+  private void saveServerRecord(String serverHash, String serverId, TrackedRecord trackedRecord) {
+    JsonObject serverObject = new JsonObject();
+    serverObject.addProperty("serverId", serverId);
+    serverObject.add("tracked", writeList(trackedRecord.tracked));
+    serverObject.add("pinned", writeList(trackedRecord.pinned));
+    this.storage.write(getServerRecordFileName(serverHash), GSON.toJson(serverObject));
+  }
+
+  private JsonObject readJsonObject(String name) {
+    String content = this.storage.read(name);
+    if (content == null) {
+      return null;
+    }
+    try {
+      return GSON.fromJson(content, JsonObject.class);
+    } catch (JsonParseException | IllegalStateException exception) {
+      log.error("Unable to load tracked advancements from {}:", name, exception);
+    }
+    return null;
+  }
+
+  private static JsonArray getAsJsonArray(JsonObject jsonObject, String memberName) {
+    JsonElement jsonElement = jsonObject.get(memberName);
+    return jsonElement != null && jsonElement.isJsonArray()
+        ? jsonElement.getAsJsonArray()
+        : new JsonArray();
+  }
+
+  private static String getAsString(JsonObject jsonObject, String memberName) {
+    JsonElement jsonElement = jsonObject.get(memberName);
+    return jsonElement != null && jsonElement.isJsonPrimitive() ? jsonElement.getAsString() : "";
+  }
+
+  private static long getAsLong(JsonObject jsonObject, String memberName) {
+    JsonElement jsonElement = jsonObject.get(memberName);
+    try {
+      return jsonElement != null && jsonElement.isJsonPrimitive() ? jsonElement.getAsLong() : 0;
+    } catch (NumberFormatException exception) {
+      return 0;
+    }
+  }
+
+  private static void readList(JsonArray jsonArray, Collection<String> result) {
+    for (JsonElement jsonElement : jsonArray) {
+      String entry = jsonElement.isJsonPrimitive() ? jsonElement.getAsString() : null;
+      if (entry != null && !entry.isEmpty()) {
+        result.add(entry);
+      }
+    }
+  }
+
+  private static void readList(Collection<String> entries, Collection<String> result) {
+    for (String entry : entries) {
+      if (entry != null && !entry.isEmpty()) {
+        result.add(entry);
+      }
+    }
+  }
+
+  private static JsonArray writeList(Collection<String> entries) {
+    JsonArray jsonArray = new JsonArray();
+    for (String entry : entries) {
+      if (entry != null && !entry.isEmpty()) {
+        jsonArray.add(entry);
+      }
+    }
+    return jsonArray;
+  }
+
+  private static String getLocalFileName() {
+    return LOCAL_FILE_NAME;
+  }
+
+  private static String getServerIndexFileName() {
+    return SERVER_INDEX_FILE_NAME;
+  }
+
+  private static String getServerRecordFileName(String serverHash) {
+    return SERVER_DIRECTORY_NAME + "/" + serverHash + ".json";
+  }
+
+  /**
+   * Ordered tracked advancements without duplicates, with the pinned advancements as subset of
+   * them.
+   */
+  private static class TrackedRecord {
+    private final LinkedHashSet<String> tracked = new LinkedHashSet<>();
+    private final LinkedHashSet<String> pinned = new LinkedHashSet<>();
+  }
+
+  private static class ServerRecord {
+    private final String serverId;
+    private long lastVisited;
+
+    ServerRecord(String serverId) {
+      this.serverId = serverId;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.generator;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes generated advancement forests as datapack, to test them inside the game. All criteria use
+ * the impossible trigger and could be granted with the advancement command. The generated progress
+ * is not part of the datapack.
+ */
+public class AdvancementDatapackWriter {
+
+  // Datapack format of Minecraft 1.20.1.
+  private static final int PACK_FORMAT = 15;
+  private static final String BACKGROUND =
+      "minecraft:textures/gui/advancements/backgrounds/stone.png";
+
+  protected AdvancementDatapackWriter() {}
+
+  public static void write(AdvancementForest advancementForest, Path datapackDirectory)
+      throws IOException {
+    Files.createDirectories(datapackDirectory);
+    Files.writeString(
+        datapackDirectory.resolve("pack.mcmeta"),
+        "{\n  \"pack\": {\n    \"pack_format\": "
+            + PACK_FORMAT
+            + ",\n    \"description\": "
+            + quote("Generated advancements (seed " + advancementForest.settings().seed() + ")")
+            + "\n  }\n}\n",
+        StandardCharsets.UTF_8);
+    for (GeneratedAdvancement advancement : advancementForest.advancements()) {
+      String id = advancement.node().getId();
+      int separatorIndex = id.indexOf(':');
+      Path advancementFile =
+          datapackDirectory
+              .resolve("data")
+              .resolve(id.substring(0, separatorIndex))
+              .resolve("advancements")
+              .resolve(id.substring(separatorIndex + 1) + ".json");
+      Files.createDirectories(advancementFile.getParent());
+      Files.writeString(advancementFile, toJson(advancement), StandardCharsets.UTF_8);
+    }
+  }
+
+  public static String toJson(GeneratedAdvancement advancement) {
+    AdvancementNode advancementNode = advancement.node();
+    StringBuilder json = new StringBuilder("{\n");
+    if (advancementNode.getParent() != null) {
+      json.append("  \"parent\": ")
+          .append(quote(advancementNode.getParent().getId()))
+          .append(",\n");
+    }
+
+    // Display
+    json.append("  \"display\": {\n");
+    json.append("    \"icon\": {\"item\": ").append(quote(advancement.icon())).append("},\n");
+    json.append("    \"title\": ").append(quote(advancementNode.getTitle())).append(",\n");
+    json.append("    \"description\": ")
+        .append(quote(advancementNode.getDescription()))
+        .append(",\n");
+    if (advancementNode.getParent() == null) {
+      json.append("    \"background\": ").append(quote(BACKGROUND)).append(",\n");
+    }
+    json.append("    \"frame\": ").append(quote(advancement.frame())).append(",\n");
+    json.append("    \"show_toast\": false,\n");
+    json.append("    \"announce_to_chat\": false\n");
+    json.append("  },\n");
+
+    // Criteria and requirements
+    String[][] requirements = advancementNode.getRequirements();
+    json.append("  \"criteria\": {\n");
+    for (int index = 0; index < requirements.length; index++) {
+      json.append("    ")
+          .append(quote(requirements[index][0]))
+          .append(": {\"trigger\": \"minecraft:impossible\"}")
+          .append(index < requirements.length - 1 ? ",\n" : "\n");
+    }
+    json.append("  },\n");
+    json.append("  \"requirements\": [\n");
+    for (int index = 0; index < requirements.length; index++) {
+      json.append("    ")
+          .append(toJsonArray(List.of(requirements[index])))
+          .append(index < requirements.length - 1 ? ",\n" : "\n");
+    }
+    json.append("  ]");
+
+    // Rewards
+    GeneratedRewards rewards = advancement.rewards();
+    if (!rewards.isEmpty()) {
+      json.append(",\n  \"rewards\": {\n");
+      json.append("    \"experience\": ").append(rewards.experience()).append(",\n");
+      json.append("    \"loot\": ").append(toJsonArray(rewards.loot())).append(",\n");
+      json.append("    \"recipes\": ").append(toJsonArray(rewards.recipes())).append("\n");
+      json.append("  }");
+    }
+    return json.append("\n}\n").toString();
+  }
+
+  private static String toJsonArray(List<String> values) {
+    StringBuilder jsonArray = new StringBuilder("[");
+    for (String value : values) {
+      if (jsonArray.length() > 1) {
+        jsonArray.append(", ");
+      }
+      jsonArray.append(quote(value));
+    }
+    return jsonArray.append(']').toString();
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  /** Usage: AdvancementDatapackWriter datapack_directory [seed] [number_of_advancements] */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println(
+          "Usage: AdvancementDatapackWriter <datapack directory> [seed] [number of advancements]");
+      System.exit(1);
+    }
+    long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+    int numberOfAdvancements = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+    AdvancementForest advancementForest =
+        AdvancementForestGenerator.generate(
+            AdvancementForestSettings.modpack(seed, numberOfAdvancements));
+    Path datapackDirectory = Path.of(args[0]);
+    write(advancementForest, datapackDirectory);
+    System.out.println(
+        "Generated " + advancementForest.size() + " advancements in " + datapackDirectory);
+  }
+}
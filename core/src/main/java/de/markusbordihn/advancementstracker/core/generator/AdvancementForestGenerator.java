@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.generator;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates deterministic advancement forests, to reproduce modpack sized workloads for benchmarks
+ * and load tests without a running game or server.
+ */
+public class AdvancementForestGenerator {
+
+  public static final String NAMESPACE_PREFIX = "generated_mod_";
+
+  // 2023-01-01, so that the generated progress dates are independent of the current time.
+  private static final long PROGRESS_START_TIME = 1672531200000L;
+  private static final long PROGRESS_TIME_RANGE = TimeUnit.DAYS.toMillis(30);
+
+  private static final String[] ITEMS = {
+    "minecraft:oak_log", "minecraft:cobblestone", "minecraft:iron_ingot", "minecraft:gold_ingot",
+    "minecraft:diamond", "minecraft:emerald", "minecraft:redstone", "minecraft:lapis_lazuli",
+    "minecraft:coal", "minecraft:copper_ingot", "minecraft:wheat", "minecraft:bread",
+    "minecraft:apple", "minecraft:carrot", "minecraft:potato", "minecraft:bone",
+    "minecraft:string", "minecraft:feather", "minecraft:leather", "minecraft:gunpowder",
+    "minecraft:ender_pearl", "minecraft:blaze_rod", "minecraft:slime_ball", "minecraft:glowstone",
+    "minecraft:quartz", "minecraft:obsidian", "minecraft:sand", "minecraft:glass",
+    "minecraft:torch", "minecraft:chest", "minecraft:furnace", "minecraft:crafting_table"
+  };
+  private static final String[] RECIPES = {
+    "minecraft:torch", "minecraft:chest", "minecraft:furnace", "minecraft:crafting_table",
+    "minecraft:ladder", "minecraft:bucket", "minecraft:compass", "minecraft:clock",
+    "minecraft:shield", "minecraft:bow", "minecraft:lantern", "minecraft:campfire"
+  };
+  private static final String[] LOOT_TABLES = {
+    "minecraft:chests/simple_dungeon",
+    "minecraft:chests/abandoned_mineshaft",
+    "minecraft:chests/desert_pyramid",
+    "minecraft:chests/village/village_weaponsmith"
+  };
+
+  protected AdvancementForestGenerator() {}
+
+  public static AdvancementForest generate(AdvancementForestSettings settings) {
+    Random random = new Random(settings.seed());
+    List<GeneratedAdvancement> advancements = new ArrayList<>();
+    for (int rootIndex = 0; rootIndex < settings.roots(); rootIndex++) {
+      generateTree(settings, random, NAMESPACE_PREFIX + rootIndex, advancements);
+    }
+    return new AdvancementForest(settings, List.copyOf(advancements));
+  }
+
+  private static void generateTree(
+      AdvancementForestSettings settings,
+      Random random,
+      String namespace,
+      List<GeneratedAdvancement> advancements) {
+    int maxAdvancements =
+        settings.maxAdvancementsPerRoot() > 0
+            ? settings.maxAdvancementsPerRoot()
+            : Integer.MAX_VALUE;
+    GeneratedAdvancement rootAdvancement =
+        generateAdvancement(settings, random, namespace + ":root", null, 0);
+    advancements.add(rootAdvancement);
+    int numberOfAdvancements = 1;
+
+    // Breadth first, so that the limit only cuts off the deepest levels.
+    List<AdvancementNode> parentNodes = List.of(rootAdvancement.node());
+    for (int level = 1; level <= settings.depth() && !parentNodes.isEmpty(); level++) {
+      List<AdvancementNode> childNodes = new ArrayList<>();
+      for (AdvancementNode parentNode : parentNodes) {
+        for (int childIndex = 0; childIndex < settings.branching(); childIndex++) {
+          if (numberOfAdvancements >= maxAdvancements) {
+            return;
+          }
+          String id = namespace + ":tasks/level_" + level + "/advancement_" + numberOfAdvancements;
+          GeneratedAdvancement advancement =
+              generateAdvancement(settings, random, id, parentNode, numberOfAdvancements);
+          advancements.add(advancement);
+          childNodes.add(advancement.node());
+          numberOfAdvancements++;
+        }
+      }
+      parentNodes = childNodes;
+    }
+  }
+
+  private static GeneratedAdvancement generateAdvancement(
+      AdvancementForestSettings settings,
+      Random random,
+      String id,
+      AdvancementNode parentNode,
+      int index) {
+    // Criteria are based on real item ids, so that they could be translated and displayed.
+    int numberOfCriteria =
+        settings.minCriteria()
+            + random.nextInt(settings.maxCriteria() - settings.minCriteria() + 1);
+    int itemOffset = random.nextInt(ITEMS.length);
+    String[] criteria = new String[numberOfCriteria];
+    String[][] requirements = new String[numberOfCriteria][];
+    for (int criterionIndex = 0; criterionIndex < numberOfCriteria; criterionIndex++) {
+      String item = ITEMS[(itemOffset + criterionIndex) % ITEMS.length];
+      int cycle = criterionIndex / ITEMS.length;
+      criteria[criterionIndex] = cycle == 0 ? item : item + "_" + cycle;
+      requirements[criterionIndex] = new String[] {criteria[criterionIndex]};
+    }
+    String icon = ITEMS[itemOffset];
+    InMemoryAdvancementNode advancementNode =
+        new InMemoryAdvancementNode(
+            id,
+            parentNode,
+            getReadableName(icon) + " " + index,
+            "Collect " + numberOfCriteria + " different items.",
+            requirements);
+
+    // Completed advancements have all criteria, the others only some of them.
+    InMemoryAdvancementNodeProgress advancementProgress =
+        new InMemoryAdvancementNodeProgress(advancementNode);
+    int numberOfCompletedCriteria =
+        random.nextFloat() < settings.completionRatio()
+            ? numberOfCriteria
+            : random.nextInt(numberOfCriteria);
+    for (int criterionIndex = 0; criterionIndex < numberOfCompletedCriteria; criterionIndex++) {
+      advancementProgress.grant(
+          criteria[criterionIndex],
+          new Date(PROGRESS_START_TIME + random.nextLong(PROGRESS_TIME_RANGE)));
+    }
+
+    return new GeneratedAdvancement(
+        advancementNode,
+        advancementProgress,
+        generateRewards(settings, random),
+        parentNode == null ? "task" : getFrame(random),
+        icon);
+  }
+
+  private static GeneratedRewards generateRewards(
+      AdvancementForestSettings settings, Random random) {
+    if (random.nextFloat() >= settings.rewardRatio()) {
+      return GeneratedRewards.EMPTY;
+    }
+    int experience = random.nextFloat() < 0.6f ? 5 * (1 + random.nextInt(20)) : 0;
+    List<String> loot =
+        random.nextFloat() < 0.3f
+            ? List.of(LOOT_TABLES[random.nextInt(LOOT_TABLES.length)])
+            : List.of();
+    List<String> recipes =
+        random.nextFloat() < 0.4f ? List.of(RECIPES[random.nextInt(RECIPES.length)]) : List.of();
+    if (experience == 0 && loot.isEmpty() && recipes.isEmpty()) {
+      experience = 10;
+    }
+    return new GeneratedRewards(experience, loot, recipes);
+  }
+
+  private static String getFrame(Random random) {
+    float frameChance = random.nextFloat();
+    if (frameChance < 0.05f) {
+      return "challenge";
+    }
+    return frameChance < 0.2f ? "goal" : "task";
+  }
+
+  private static String getReadableName(String itemId) {
+    String itemName = itemId.substring(itemId.indexOf(':') + 1);
+    StringBuilder readableName = new StringBuilder(itemName.length());
+    for (String word : itemName.split("_")) {
+      if (readableName.length() > 0) {
+        readableName.append(' ');
+      }
+      readableName.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+    }
+    return readableName.toString();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.generator;
+
+/**
+ * Settings for the synthetic advancement forest generator. The same settings and seed will always
+ * generate the same advancements.
+ *
+ * @param roots number of root advancements, like one per mod of a modpack.
+ * @param depth max. number of advancement levels below a root advancement.
+ * @param branching number of child advancements of every non-leaf advancement.
+ * @param maxAdvancementsPerRoot limit of advancements per root, including the root. 0 = unlimited
+ * @param minCriteria min. number of criteria per advancement.
+ * @param maxCriteria max. number of criteria per advancement.
+ * @param rewardRatio share of advancements with experience, loot and/or recipe rewards.
+ * @param completionRatio share of completed advancements, the others are partially completed.
+ */
+public record AdvancementForestSettings(
+    long seed,
+    int roots,
+    int depth,
+    int branching,
+    int maxAdvancementsPerRoot,
+    int minCriteria,
+    int maxCriteria,
+    float rewardRatio,
+    float completionRatio) {
+
+  public AdvancementForestSettings {
+    if (roots < 1 || depth < 0 || branching < 0 || maxAdvancementsPerRoot < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid advancement forest shape: roots=%s, depth=%s, branching=%s, max=%s",
+              roots, depth, branching, maxAdvancementsPerRoot));
+    }
+    if (minCriteria < 1 || maxCriteria < minCriteria) {
+      throw new IllegalArgumentException(
+          "Invalid number of criteria: min=" + minCriteria + ", max=" + maxCriteria);
+    }
+    if (rewardRatio < 0f || rewardRatio > 1f || completionRatio < 0f || completionRatio > 1f) {
+      throw new IllegalArgumentException(
+          "Invalid ratios: reward=" + rewardRatio + ", completion=" + completionRatio);
+    }
+  }
+
+  /** @return settings similar to large modpacks with about 250 advancements per mod. */
+  public static AdvancementForestSettings modpack(long seed, int numberOfAdvancements) {
+    int advancementsPerRoot = Math.min(250, numberOfAdvancements);
+    return new AdvancementForestSettings(
+        seed,
+        Math.max(1, numberOfAdvancements / advancementsPerRoot),
+        8,
+        3,
+        advancementsPerRoot,
+        1,
+        8,
+        0.3f,
+        0.4f);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.layout;
+
+import java.util.List;
+
+/**
+ * Virtualized row model for selection lists with a fixed row height. Rows are only prepared if
+ * they are inside the visible range (including a small prefetch margin) and released again if they
+ * are scrolled far away.
+ */
+public class LazyRowViewport {
+
+  private static final int PREFETCH_ROWS = 3;
+  private static final int RELEASE_ROWS = 30;
+
+  private double lastScrollAmount = -1;
+  private int lastItemCount = -1;
+  private int lastViewHeight = -1;
+
+  // Rows outside of this range are already released, an unknown range releases all rows once.
+  private int retainedFirstRow = 0;
+  private int retainedLastRow = Integer.MAX_VALUE;
+
+  public interface LazyRow {
+    boolean isPrepared();
+
+    void prepare();
+
+    void release();
+  }
+
+  public void invalidate() {
+    this.lastItemCount = -1;
+    this.retainedFirstRow = 0;
+    this.retainedLastRow = Integer.MAX_VALUE;
+  }
+
+  public void update(
+      List<? extends LazyRow> rows, double scrollAmount, int itemHeight, int viewHeight) {
+    int itemCount = rows.size();
+    if (itemCount == 0
+        || itemHeight <= 0
+        || (scrollAmount == this.lastScrollAmount
+            && itemCount == this.lastItemCount
+            && viewHeight == this.lastViewHeight)) {
+      return;
+    }
+    this.lastScrollAmount = scrollAmount;
+    this.lastItemCount = itemCount;
+    this.lastViewHeight = viewHeight;
+
+    // Visible range based on the fixed row height.
+    int firstVisibleRow = (int) Math.floor(scrollAmount / itemHeight);
+    int lastVisibleRow = (int) Math.ceil((scrollAmount + viewHeight) / itemHeight);
+    int firstPreparedRow = Math.max(0, firstVisibleRow - PREFETCH_ROWS);
+    int lastPreparedRow = Math.min(itemCount - 1, lastVisibleRow + PREFETCH_ROWS);
+    for (int index = firstPreparedRow; index <= lastPreparedRow; index++) {
+      LazyRow row = rows.get(index);
+      if (!row.isPrepared()) {
+        row.prepare();
+      }
+    }
+
+    // Release rows which are far away from the visible range, which only needs to check the rows
+    // leaving the previous retained range.
+    int firstRetainedRow = Math.max(0, firstVisibleRow - RELEASE_ROWS);
+    int lastRetainedRow = Math.min(itemCount - 1, lastVisibleRow + RELEASE_ROWS);
+    int lastPreviousRow = Math.min(this.retainedLastRow, itemCount - 1);
+    for (int index = this.retainedFirstRow;
+        index <= lastPreviousRow && index < firstRetainedRow;
+        index++) {
+      releaseRow(rows.get(index));
+    }
+    for (int index = Math.max(this.retainedFirstRow, lastRetainedRow + 1);
+        index <= lastPreviousRow;
+        index++) {
+      releaseRow(rows.get(index));
+    }
+    this.retainedFirstRow = firstRetainedRow;
+    this.retainedLastRow = lastRetainedRow;
+  }
+
+  private static void releaseRow(LazyRow row) {
+    if (row.isPrepared()) {
+      row.release();
+    }
+  }
+}
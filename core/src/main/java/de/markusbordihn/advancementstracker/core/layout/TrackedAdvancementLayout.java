@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.layout;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNodeEntry;
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import java.util.List;
+
+/** Positions and text lines of a single tracked advancement inside the tracker widget. */
+public class TrackedAdvancementLayout {
+
+  public static final float DESCRIPTION_SCALE = 0.75f;
+  public static final float PROGRESS_SCALE = 0.6f;
+  public static final float TITLE_SCALE = 0.75f;
+
+  private static final int MAX_DESCRIPTION_LINES = 3;
+  private static final int PADDING_LEFT = 2;
+  private static final int PADDING_TOP = 3;
+  private static final int TITLE_PADDING_LEFT = 10;
+
+  private final AdvancementNodeEntry advancementEntry;
+  private final int progressVersion;
+  private final int width;
+
+  // Title
+  private final String titleText;
+  private final boolean hasTitleEllipsis;
+  private final int titleWidthScaled;
+
+  // Progress
+  private final String progressText;
+  private final int progressLeft;
+
+  // Icon
+  private final int iconTop;
+
+  // Description
+  private final List<String> descriptionLines;
+  private final int descriptionTop;
+  private final int descriptionLineHeight;
+  private final boolean hasDescriptionEllipsis;
+  private final float descriptionEllipsisOffset;
+
+  // Sizes
+  private final int backgroundHeight;
+  private final int height;
+
+  public TrackedAdvancementLayout(
+      TextMeasurer textMeasurer, AdvancementNodeEntry advancementEntry, int width) {
+    this.advancementEntry = advancementEntry;
+    this.progressVersion = advancementEntry.getProgress().getVersion();
+    this.width = width;
+
+    // Title (only one line)
+    int maxFontWidth = width - 2;
+    int titlePaddingRight = advancementEntry.getProgress().getProgressTotal() > 1 ? 20 : 0;
+    int maxTitleWidth = maxFontWidth - TITLE_PADDING_LEFT - titlePaddingRight;
+    this.hasTitleEllipsis = advancementEntry.getTitleWidth() * TITLE_SCALE > maxTitleWidth;
+    int titleWidth =
+        this.hasTitleEllipsis ? maxTitleWidth - Math.round(7 * TITLE_SCALE) : maxTitleWidth;
+    this.titleWidthScaled = Math.round(titleWidth / TITLE_SCALE);
+    this.titleText =
+        textMeasurer.trimToWidth(advancementEntry.getPlainTitle(), this.titleWidthScaled);
+
+    // Progress, if we have more than one requirements.
+    if (advancementEntry.getProgress().getProgressTotal() > 1) {
+      this.progressText = advancementEntry.getProgress().getProgressString();
+      this.progressLeft =
+          PADDING_LEFT
+              + maxFontWidth
+              - Math.round(advancementEntry.getProgress().getProgressStringWidth() * PROGRESS_SCALE)
+              - 2;
+    } else {
+      this.progressText = null;
+      this.progressLeft = 0;
+    }
+
+    // Icon and description are placed below the title.
+    int lineHeight = textMeasurer.getLineHeight();
+    this.descriptionTop = PADDING_TOP + (int) (lineHeight * TITLE_SCALE + 3);
+    this.descriptionLineHeight = (int) (lineHeight * DESCRIPTION_SCALE + 3);
+    this.iconTop = this.descriptionTop - 14;
+
+    // Description (max three lines)
+    List<String> descriptionParts =
+        textMeasurer.split(
+            advancementEntry.getPlainDescription(),
+            Math.round(maxFontWidth / DESCRIPTION_SCALE) - 3);
+    int numberOfDescriptionLines = Math.min(descriptionParts.size(), MAX_DESCRIPTION_LINES);
+    this.descriptionLines = List.copyOf(descriptionParts.subList(0, numberOfDescriptionLines));
+    this.hasDescriptionEllipsis = descriptionParts.size() >= MAX_DESCRIPTION_LINES;
+    if (this.hasDescriptionEllipsis) {
+      float lastLineWidth =
+          textMeasurer.width(this.descriptionLines.get(numberOfDescriptionLines - 1))
+              / DESCRIPTION_SCALE;
+      this.descriptionEllipsisOffset =
+          lastLineWidth < maxFontWidth / DESCRIPTION_SCALE - 3
+              ? lastLineWidth - 7
+              : (maxFontWidth / DESCRIPTION_SCALE) - 7;
+    } else {
+      this.descriptionEllipsisOffset = 0;
+    }
+
+    // Expected content size
+    this.backgroundHeight =
+        Math.round(
+            (lineHeight * TITLE_SCALE + 3)
+                + ((lineHeight * DESCRIPTION_SCALE + 3) * numberOfDescriptionLines));
+    this.height = this.descriptionTop + this.descriptionLineHeight * numberOfDescriptionLines;
+  }
+
+  public boolean isValid(AdvancementNodeEntry advancementEntry, int width) {
+    return this.advancementEntry == advancementEntry
+        && this.width == width
+        && this.progressVersion == advancementEntry.getProgress().getVersion();
+  }
+
+  public String getTitleText() {
+    return this.titleText;
+  }
+
+  public int getTitleLeft() {
+    return PADDING_LEFT + TITLE_PADDING_LEFT;
+  }
+
+  public int getTitleTop() {
+    return PADDING_TOP;
+  }
+
+  public boolean hasTitleEllipsis() {
+    return this.hasTitleEllipsis;
+  }
+
+  public int getTitleWidthScaled() {
+    return this.titleWidthScaled;
+  }
+
+  public String getProgressText() {
+    return this.progressText;
+  }
+
+  public int getProgressLeft() {
+    return this.progressLeft;
+  }
+
+  public int getProgressTop() {
+    return PADDING_TOP - 1;
+  }
+
+  public int getIconLeft() {
+    return PADDING_LEFT - 4;
+  }
+
+  public int getIconTop() {
+    return this.iconTop;
+  }
+
+  public List<String> getDescriptionLines() {
+    return this.descriptionLines;
+  }
+
+  public int getDescriptionLeft() {
+    return PADDING_LEFT;
+  }
+
+  public int getDescriptionTop(int line) {
+    return this.descriptionTop + this.descriptionLineHeight * line;
+  }
+
+  public boolean hasDescriptionEllipsis() {
+    return this.hasDescriptionEllipsis;
+  }
+
+  public float getDescriptionEllipsisOffset() {
+    return this.descriptionEllipsisOffset;
+  }
+
+  public int getBackgroundHeight() {
+    return this.backgroundHeight;
+  }
+
+  public int getHeight() {
+    return this.height;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.memory;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+
+/**
+ * In-memory advancement node for headless tests, benchmarks and generated advancement trees. A
+ * null title marks an advancement without display information.
+ */
+public record InMemoryAdvancementNode(
+    String id,
+    AdvancementNode parent,
+    String title,
+    String description,
+    String[][] requirements)
+    implements AdvancementNode {
+
+  public InMemoryAdvancementNode(String id, AdvancementNode parent, String... criteria) {
+    this(id, parent, id, "", toRequirements(criteria));
+  }
+
+  private static String[][] toRequirements(String[] criteria) {
+    String[][] requirements = new String[criteria.length][];
+    for (int index = 0; index < criteria.length; index++) {
+      requirements[index] = new String[] {criteria[index]};
+    }
+    return requirements;
+  }
+
+  @Override
+  public String getId() {
+    return this.id;
+  }
+
+  @Override
+  public AdvancementNode getParent() {
+    return this.parent;
+  }
+
+  @Override
+  public String getTitle() {
+    return this.title;
+  }
+
+  @Override
+  public String getDescription() {
+    return this.description;
+  }
+
+  @Override
+  public String[][] getRequirements() {
+    return this.requirements;
+  }
+
+  @Override
+  public boolean hasDisplay() {
+    return this.title != null;
+  }
+}
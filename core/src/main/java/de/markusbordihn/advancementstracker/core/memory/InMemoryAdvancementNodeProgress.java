@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.memory;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import de.markusbordihn.advancementstracker.core.AdvancementNodeProgress;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory progress for headless tests and benchmarks. Every requirement is satisfied by its
+ * first criterion, similar to the default requirements of the game.
+ */
+public class InMemoryAdvancementNodeProgress implements AdvancementNodeProgress {
+
+  private final String[][] requirements;
+  private final Map<String, Date> criteria = new LinkedHashMap<>();
+
+  public InMemoryAdvancementNodeProgress(AdvancementNode advancementNode) {
+    this.requirements = advancementNode.getRequirements();
+    for (String[] requirement : this.requirements) {
+      for (String criterion : requirement) {
+        this.criteria.put(criterion, null);
+      }
+    }
+  }
+
+  public InMemoryAdvancementNodeProgress grant(String criterion, Date date) {
+    if (this.criteria.containsKey(criterion)) {
+      this.criteria.put(criterion, date);
+    }
+    return this;
+  }
+
+  public InMemoryAdvancementNodeProgress revoke(String criterion) {
+    if (this.criteria.containsKey(criterion)) {
+      this.criteria.put(criterion, null);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isDone() {
+    return this.requirements.length > 0 && countCompletedRequirements() == this.requirements.length;
+  }
+
+  @Override
+  public float getPercent() {
+    return this.requirements.length == 0
+        ? 0f
+        : countCompletedRequirements() / (float) this.requirements.length;
+  }
+
+  @Override
+  public Iterable<String> getCompletedCriteria() {
+    List<String> completedCriteria = new ArrayList<>();
+    for (Map.Entry<String, Date> entry : this.criteria.entrySet()) {
+      if (entry.getValue() != null) {
+        completedCriteria.add(entry.getKey());
+      }
+    }
+    return completedCriteria;
+  }
+
+  @Override
+  public Iterable<String> getRemainingCriteria() {
+    List<String> remainingCriteria = new ArrayList<>();
+    for (Map.Entry<String, Date> entry : this.criteria.entrySet()) {
+      if (entry.getValue() == null) {
+        remainingCriteria.add(entry.getKey());
+      }
+    }
+    return remainingCriteria;
+  }
+
+  @Override
+  public Date getFirstProgressDate() {
+    Date firstProgressDate = null;
+    for (Date date : this.criteria.values()) {
+      if (date != null && (firstProgressDate == null || date.before(firstProgressDate))) {
+        firstProgressDate = date;
+      }
+    }
+    return firstProgressDate;
+  }
+
+  @Override
+  public Date getObtainedDate(String criterion) {
+    return this.criteria.get(criterion);
+  }
+
+  private int countCompletedRequirements() {
+    int completedRequirements = 0;
+    for (String[] requirement : this.requirements) {
+      for (String criterion : requirement) {
+        if (this.criteria.get(criterion) != null) {
+          completedRequirements++;
+          break;
+        }
+      }
+    }
+    return completedRequirements;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.memory;
+
+import de.markusbordihn.advancementstracker.core.TrackedAdvancementsStorage;
+import java.util.HashMap;
+import java.util.Map;
+
+/** In-memory storage for the tracked advancements files. */
+public class InMemoryTrackedAdvancementsStorage implements TrackedAdvancementsStorage {
+
+  private final Map<String, String> files = new HashMap<>();
+
+  @Override
+  public String read(String name) {
+    return this.files.get(name);
+  }
+
+  @Override
+  public void write(String name, String content) {
+    this.files.put(name, content);
+  }
+
+  @Override
+  public void delete(String name) {
+    this.files.remove(name);
+  }
+
+  @Override
+  public void flush() {
+    // Nothing to flush, all changes are written directly.
+  }
+
+  public Map<String, String> getFiles() {
+    return this.files;
+  }
+}
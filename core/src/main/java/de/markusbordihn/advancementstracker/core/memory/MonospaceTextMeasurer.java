@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.memory;
+
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text measurer with a fixed width per character, which splits text at spaces similar to the
+ * font splitter of the game.
+ */
+public class MonospaceTextMeasurer implements TextMeasurer {
+
+  private final int characterWidth;
+  private final int lineHeight;
+
+  public MonospaceTextMeasurer() {
+    this(6, 9);
+  }
+
+  public MonospaceTextMeasurer(int characterWidth, int lineHeight) {
+    this.characterWidth = characterWidth;
+    this.lineHeight = lineHeight;
+  }
+
+  @Override
+  public int width(String text) {
+    return text == null ? 0 : text.length() * this.characterWidth;
+  }
+
+  @Override
+  public String trimToWidth(String text, int maxWidth) {
+    if (text == null) {
+      return "";
+    }
+    int maxCharacters = Math.max(0, maxWidth / this.characterWidth);
+    return text.length() > maxCharacters ? text.substring(0, maxCharacters) : text;
+  }
+
+  @Override
+  public int getLineHeight() {
+    return this.lineHeight;
+  }
+
+  @Override
+  public List<String> split(String text, int maxWidth) {
+    List<String> lines = new ArrayList<>();
+    int maxCharacters = Math.max(1, maxWidth / this.characterWidth);
+    StringBuilder line = new StringBuilder();
+    for (String word : text.split(" ")) {
+      if (line.length() > 0 && line.length() + 1 + word.length() > maxCharacters) {
+        lines.add(line.toString());
+        line.setLength(0);
+      }
+      if (line.length() > 0) {
+        line.append(' ');
+      }
+      line.append(word);
+
+      // Words which are longer than a single line are split hard.
+      while (line.length() > maxCharacters) {
+        lines.add(line.substring(0, maxCharacters));
+        line.delete(0, maxCharacters);
+      }
+    }
+    if (line.length() > 0) {
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.replay;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNodeEntry;
+import de.markusbordihn.advancementstracker.core.AdvancementsModel;
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancements;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancementsStore;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryTrackedAdvancementsStorage;
+import de.markusbordihn.advancementstracker.core.memory.MonospaceTextMeasurer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Headless counterpart of the client advancements listener, which feeds the captured events into
+ * the same {@link AdvancementsModel} handlers as the client, without any game classes.
+ */
+public class HeadlessAdvancementListener implements Consumer<ListenerEvent> {
+
+  // Known advancement definitions with their resolved parents, like the advancement tree of the
+  // game.
+  private final Map<String, InMemoryAdvancementNode> advancementNodes = new HashMap<>();
+  private final AdvancementsModel<AdvancementNodeEntry> advancementsModel;
+
+  public HeadlessAdvancementListener() {
+    this(new MonospaceTextMeasurer());
+  }
+
+  public HeadlessAdvancementListener(TextMeasurer textMeasurer) {
+    TrackedAdvancements<AdvancementNodeEntry> trackedAdvancements =
+        new TrackedAdvancements<>(() -> false, () -> {});
+    trackedAdvancements.load(
+        new TrackedAdvancementsStore(new InMemoryTrackedAdvancementsStorage(), 0, 1),
+        null,
+        List.of());
+    this.advancementsModel =
+        new AdvancementsModel<>(
+            (advancementNode, advancementProgress) ->
+                new AdvancementNodeEntry(
+                    advancementNode, advancementProgress, textMeasurer, key -> null),
+            trackedAdvancements);
+  }
+
+  @Override
+  public void accept(ListenerEvent event) {
+    CapturedAdvancement advancement = event.advancement();
+    switch (event.type()) {
+      case ADD_ROOT -> {
+        InMemoryAdvancementNode advancementNode = getAdvancementNode(advancement);
+        if (advancementNode != null) {
+          this.advancementsModel.handleAddAdvancementRoot(advancementNode);
+        }
+      }
+      case ADD_TASK -> {
+        InMemoryAdvancementNode advancementNode = getAdvancementNode(advancement);
+        if (advancementNode != null) {
+          this.advancementsModel.handleAddAdvancementTask(advancementNode);
+        }
+      }
+      case UPDATE_PROGRESS -> {
+        InMemoryAdvancementNode advancementNode = getAdvancementNode(advancement);
+        if (advancementNode != null) {
+          this.advancementsModel.handleUpdateAdvancementProgress(
+              advancementNode, getAdvancementProgress(advancementNode, event));
+        }
+      }
+      case REMOVE_ROOT, REMOVE_TASK -> this.advancementNodes.remove(advancement.id());
+      case CLEARED -> this.advancementNodes.clear();
+    }
+  }
+
+  /** @return the advancement node or null, if the parent advancement is unknown. */
+  private InMemoryAdvancementNode getAdvancementNode(CapturedAdvancement advancement) {
+    InMemoryAdvancementNode advancementNode = this.advancementNodes.get(advancement.id());
+    if (advancementNode != null) {
+      return advancementNode;
+    }
+    InMemoryAdvancementNode parentNode = null;
+    if (!advancement.isRoot()) {
+      parentNode = this.advancementNodes.get(advancement.parentId());
+      if (parentNode == null) {
+        return null;
+      }
+    }
+    advancementNode =
+        new InMemoryAdvancementNode(
+            advancement.id(),
+            parentNode,
+            advancement.title(),
+            advancement.description(),
+            advancement.requirements());
+    this.advancementNodes.put(advancement.id(), advancementNode);
+    return advancementNode;
+  }
+
+  private static InMemoryAdvancementNodeProgress getAdvancementProgress(
+      InMemoryAdvancementNode advancementNode, ListenerEvent event) {
+    InMemoryAdvancementNodeProgress advancementProgress =
+        new InMemoryAdvancementNodeProgress(advancementNode);
+    event.progress().forEach(advancementProgress::grant);
+    return advancementProgress;
+  }
+
+  public AdvancementsModel<AdvancementNodeEntry> getAdvancementsModel() {
+    return this.advancementsModel;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.replay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Reads listener events, which are written by the {@link ListenerCaptureWriter}. */
+public class ListenerCaptureReader implements Closeable {
+
+  private static final ListenerEventType[] EVENT_TYPES = ListenerEventType.values();
+
+  private final DataInputStream inputStream;
+  private final List<String> strings = new ArrayList<>();
+  private final List<CapturedAdvancement> advancements = new ArrayList<>();
+  private long timestampMicros = 0;
+
+  public ListenerCaptureReader(InputStream inputStream) throws IOException {
+    this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+    if (this.inputStream.readInt() != ListenerCaptureWriter.MAGIC) {
+      throw new IOException("Not an advancements listener capture!");
+    }
+    int version = this.inputStream.readUnsignedByte();
+    if (version != ListenerCaptureWriter.VERSION) {
+      throw new IOException("Unsupported listener capture version " + version);
+    }
+  }
+
+  public static List<ListenerEvent> readAll(Path path) throws IOException {
+    List<ListenerEvent> events = new ArrayList<>();
+    try (ListenerCaptureReader reader = new ListenerCaptureReader(Files.newInputStream(path))) {
+      ListenerEvent event;
+      while ((event = reader.read()) != null) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  /** @return next event or null, if the end of the capture is reached. */
+  public ListenerEvent read() throws IOException {
+    int eventType = this.inputStream.read();
+    if (eventType < 0) {
+      return null;
+    }
+    if (eventType >= EVENT_TYPES.length) {
+      throw new IOException("Unknown listener event type " + eventType);
+    }
+    ListenerEventType type = EVENT_TYPES[eventType];
+    this.timestampMicros += readVarLong();
+    long timestamp = this.timestampMicros * 1000;
+    if (type == ListenerEventType.CLEARED) {
+      this.advancements.clear();
+      return new ListenerEvent(type, timestamp, null, null);
+    }
+
+    CapturedAdvancement advancement = readAdvancement();
+    Map<String, Date> progress = null;
+    if (type == ListenerEventType.UPDATE_PROGRESS) {
+      int numberOfCriteria = (int) readVarLong();
+      progress = new LinkedHashMap<>(numberOfCriteria * 2);
+      for (int index = 0; index < numberOfCriteria; index++) {
+        String criterion = readString();
+        long obtainedTime = readVarLong();
+        progress.put(criterion, obtainedTime == 0 ? null : new Date(obtainedTime - 1));
+      }
+    }
+    return new ListenerEvent(type, timestamp, advancement, progress);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.inputStream.close();
+  }
+
+  private CapturedAdvancement readAdvancement() throws IOException {
+    int index = (int) readVarLong();
+    if (index < this.advancements.size()) {
+      return this.advancements.get(index);
+    }
+    if (index != this.advancements.size()) {
+      throw new IOException("Invalid advancement reference " + index);
+    }
+    String id = readString();
+    String parentId = readString();
+    String title = readString();
+    String description = readString();
+    String icon = readString();
+    String background = readString();
+    String frame = readString();
+    String[][] requirements = new String[(int) readVarLong()][];
+    for (int requirementIndex = 0; requirementIndex < requirements.length; requirementIndex++) {
+      String[] requirement = new String[(int) readVarLong()];
+      for (int criterionIndex = 0; criterionIndex < requirement.length; criterionIndex++) {
+        requirement[criterionIndex] = readString();
+      }
+      requirements[requirementIndex] = requirement;
+    }
+    CapturedAdvancement advancement =
+        new CapturedAdvancement(
+            id, parentId, title, description, icon, background, frame, requirements);
+    this.advancements.add(advancement);
+    return advancement;
+  }
+
+  private String readString() throws IOException {
+    int index = (int) readVarLong();
+    if (index == 0) {
+      return null;
+    }
+    if (index <= this.strings.size()) {
+      return this.strings.get(index - 1);
+    }
+    if (index != this.strings.size() + 1) {
+      throw new IOException("Invalid string reference " + index);
+    }
+    String value = this.inputStream.readUTF();
+    this.strings.add(value);
+    return value;
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    int shift = 0;
+    int currentByte;
+    do {
+      if (shift >= 64) {
+        throw new IOException("Invalid variable length number!");
+      }
+      currentByte = this.inputStream.read();
+      if (currentByte < 0) {
+        throw new EOFException();
+      }
+      value |= (long) (currentByte & 0x7F) << shift;
+      shift += 7;
+    } while ((currentByte & 0x80) != 0);
+    return value;
+  }
+}
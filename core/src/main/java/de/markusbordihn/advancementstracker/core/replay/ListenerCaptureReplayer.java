@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Replays captured listener events at their recorded or at maximum speed. Could be started as
+ * headless replay with: ListenerCaptureReplayer capture_file [--recorded-speed]
+ */
+public class ListenerCaptureReplayer {
+
+  protected ListenerCaptureReplayer() {}
+
+  /** @return duration of the replay in nanoseconds. */
+  public static long replay(
+      List<ListenerEvent> events, Consumer<ListenerEvent> listener, boolean recordedSpeed) {
+    long startTime = System.nanoTime();
+    for (ListenerEvent event : events) {
+      if (recordedSpeed) {
+        long waitTime = event.timestamp() - (System.nanoTime() - startTime);
+        if (waitTime > 0) {
+          LockSupport.parkNanos(waitTime);
+        }
+      }
+      listener.accept(event);
+    }
+    return System.nanoTime() - startTime;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: ListenerCaptureReplayer <capture file> [--recorded-speed]");
+      System.exit(1);
+    }
+    boolean recordedSpeed = args.length > 1 && "--recorded-speed".equals(args[1]);
+    List<ListenerEvent> events = ListenerCaptureReader.readAll(Path.of(args[0]));
+
+    // Measure the time per event type, to see which callbacks are expensive.
+    HeadlessAdvancementListener headlessListener = new HeadlessAdvancementListener();
+    Map<ListenerEventType, long[]> eventStats = new EnumMap<>(ListenerEventType.class);
+    long duration =
+        replay(
+            events,
+            event -> {
+              long eventStartTime = System.nanoTime();
+              headlessListener.accept(event);
+              long[] stats = eventStats.computeIfAbsent(event.type(), type -> new long[2]);
+              stats[0]++;
+              stats[1] += System.nanoTime() - eventStartTime;
+            },
+            recordedSpeed);
+
+    long recordedDuration = events.isEmpty() ? 0 : events.get(events.size() - 1).timestamp();
+    System.out.printf(
+        "Replayed %s events in %s ms (recorded %s ms)%n",
+        events.size(),
+        TimeUnit.NANOSECONDS.toMillis(duration),
+        TimeUnit.NANOSECONDS.toMillis(recordedDuration));
+    for (Map.Entry<ListenerEventType, long[]> eventStat : eventStats.entrySet()) {
+      System.out.printf(
+          "%-16s %8s events %10s us%n",
+          eventStat.getKey(),
+          eventStat.getValue()[0],
+          TimeUnit.NANOSECONDS.toMicros(eventStat.getValue()[1]));
+    }
+    System.out.printf(
+        "Indexed %s root advancements and %s advancements with model version %s%n",
+        headlessListener.getAdvancementsModel().getIndex().getNumberOfRoots(),
+        headlessListener.getAdvancementsModel().getIndex().size(),
+        headlessListener.getAdvancementsModel().getVersion());
+  }
+}
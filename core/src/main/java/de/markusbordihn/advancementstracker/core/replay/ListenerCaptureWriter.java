@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.core.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes captured listener events into a compact binary format. Strings and advancement
+ * definitions are only written once and referenced by their index afterwards, timestamps are
+ * stored as delta to the previous event in microseconds.
+ */
+public class ListenerCaptureWriter implements Closeable {
+
+  static final int MAGIC = 0x41544C43;
+  static final int VERSION = 1;
+
+  private final DataOutputStream outputStream;
+  private final Map<String, Integer> strings = new HashMap<>();
+  private final Map<String, Integer> advancements = new HashMap<>();
+  private long lastTimestamp = 0;
+
+  public ListenerCaptureWriter(OutputStream outputStream) throws IOException {
+    this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+    this.outputStream.writeInt(MAGIC);
+    this.outputStream.writeByte(VERSION);
+  }
+
+  public void write(ListenerEvent event) throws IOException {
+    this.outputStream.writeByte(event.type().ordinal());
+    long timestampMicros = event.timestamp() / 1000;
+    writeVarLong(Math.max(0, timestampMicros - this.lastTimestamp));
+    this.lastTimestamp = Math.max(this.lastTimestamp, timestampMicros);
+
+    // The game sends all advancements again after they are cleared, which could include changes.
+    if (event.type() == ListenerEventType.CLEARED) {
+      this.advancements.clear();
+      return;
+    }
+
+    writeAdvancement(event.advancement());
+    if (event.type() == ListenerEventType.UPDATE_PROGRESS) {
+      writeVarLong(event.progress().size());
+      for (Map.Entry<String, Date> criterion : event.progress().entrySet()) {
+        writeString(criterion.getKey());
+        Date obtainedDate = criterion.getValue();
+        writeVarLong(obtainedDate == null ? 0 : obtainedDate.getTime() + 1);
+      }
+    }
+  }
+
+  public void flush() throws IOException {
+    this.outputStream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.outputStream.close();
+  }
+
+  private void writeAdvancement(CapturedAdvancement advancement) throws IOException {
+    Integer index = this.advancements.get(advancement.id());
+    if (index != null) {
+      writeVarLong(index);
+      return;
+    }
+    int newIndex = this.advancements.size();
+    this.advancements.put(advancement.id(), newIndex);
+    writeVarLong(newIndex);
+    writeString(advancement.id());
+    writeString(advancement.parentId());
+    writeString(advancement.title());
+    writeString(advancement.description());
+    writeString(advancement.icon());
+    writeString(advancement.background());
+    writeString(advancement.frame());
+    writeVarLong(advancement.requirements().length);
+    for (String[] requirement : advancement.requirements()) {
+      writeVarLong(requirement.length);
+      for (String criterion : requirement) {
+        writeString(criterion);
+      }
+    }
+  }
+
+  /** Strings are written as 0 for null, as their index + 1 or as new index + 1 and their value. */
+  private void writeString(String value) throws IOException {
+    if (value == null) {
+      writeVarLong(0);
+      return;
+    }
+    Integer index = this.strings.get(value);
+    if (index != null) {
+      writeVarLong(index + 1L);
+      return;
+    }
+    int newIndex = this.strings.size();
+    this.strings.put(value, newIndex);
+    writeVarLong(newIndex + 1L);
+    this.outputStream.writeUTF(value);
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      this.outputStream.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    this.outputStream.writeByte((int) value);
+  }
+}
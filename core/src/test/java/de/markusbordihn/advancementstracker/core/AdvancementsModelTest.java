@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryTrackedAdvancementsStorage;
+import de.markusbordihn.advancementstracker.core.memory.MonospaceTextMeasurer;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdvancementsModelTest {
+
+  private static final TextMeasurer TEXT_MEASURER = new MonospaceTextMeasurer();
+
+  private final InMemoryAdvancementNode root = new InMemoryAdvancementNode("test:root", null);
+  private final InMemoryAdvancementNode parent =
+      new InMemoryAdvancementNode("test:parent", this.root, "first");
+  private final InMemoryAdvancementNode child =
+      new InMemoryAdvancementNode("test:child", this.parent, "first", "second");
+
+  private TrackedAdvancements<AdvancementNodeEntry> trackedAdvancements;
+  private AdvancementsModel<AdvancementNodeEntry> advancementsModel;
+
+  @BeforeEach
+  void setUp() {
+    this.trackedAdvancements = new TrackedAdvancements<>(() -> false, () -> {});
+    this.advancementsModel =
+        new AdvancementsModel<>(
+            (advancementNode, advancementProgress) ->
+                new AdvancementNodeEntry(
+                    advancementNode, advancementProgress, TEXT_MEASURER, key -> null),
+            this.trackedAdvancements);
+  }
+
+  @Test
+  void addTaskAddsRootAndIndexesByRoot() {
+    this.advancementsModel.addTask(this.child);
+    this.advancementsModel.addTask(this.parent);
+
+    AdvancementIndex<AdvancementNodeEntry> advancementIndex = this.advancementsModel.getIndex();
+    AdvancementNodeEntry rootEntry = advancementIndex.getRoot("test:root");
+    assertNotNull(rootEntry);
+    assertEquals(1, advancementIndex.getNumberOfRoots());
+    assertEquals(2, advancementIndex.getEntries("test:root").size());
+
+    AdvancementNodeEntry childEntry = advancementIndex.get("test:child");
+    assertEquals("test:root", childEntry.getRootIdString());
+    assertEquals(1, childEntry.getRootLevel());
+    assertNull(rootEntry.getRootIdString());
+  }
+
+  @Test
+  void addTaskIgnoresKnownAdvancements() {
+    this.advancementsModel.addTask(this.child);
+    int version = this.advancementsModel.getVersion();
+    AdvancementNodeEntry childEntry = this.advancementsModel.getIndex().get("test:child");
+
+    this.advancementsModel.addTask(this.child);
+
+    assertEquals(version, this.advancementsModel.getVersion());
+    assertSame(childEntry, this.advancementsModel.getIndex().get("test:child"));
+  }
+
+  @Test
+  void updateProgressUpdatesEntryAndVersion() {
+    this.advancementsModel.addTask(this.child);
+    AdvancementNodeEntry childEntry = this.advancementsModel.getIndex().get("test:child");
+    int version = this.advancementsModel.getVersion();
+    int progressVersion = childEntry.getProgress().getVersion();
+
+    this.advancementsModel.updateProgress(
+        this.child, new InMemoryAdvancementNodeProgress(this.child).grant("first", new Date()));
+
+    assertEquals(version + 1, this.advancementsModel.getVersion());
+    assertEquals(progressVersion + 1, childEntry.getProgress().getVersion());
+    assertEquals(0.5f, childEntry.getProgress().getProgress());
+    assertEquals("1/2", childEntry.getProgress().getProgressString());
+    assertFalse(childEntry.getProgress().isDone());
+  }
+
+  @Test
+  void updateProgressBeforeAddTaskIsUsedForNewEntry() {
+    this.advancementsModel.updateProgress(
+        this.parent, new InMemoryAdvancementNodeProgress(this.parent).grant("first", new Date()));
+    int version = this.advancementsModel.getVersion();
+
+    this.advancementsModel.addTask(this.parent);
+
+    assertEquals(version + 2, this.advancementsModel.getVersion());
+    assertTrue(this.advancementsModel.getIndex().get("test:parent").getProgress().isDone());
+  }
+
+  @Test
+  void completedAdvancementIsUntracked() {
+    TrackedAdvancementsStore store =
+        new TrackedAdvancementsStore(new InMemoryTrackedAdvancementsStorage(), 0, 10);
+    store.setTrackedAdvancements(null, List.of("test:child"));
+    this.trackedAdvancements.load(store, null, List.of());
+
+    this.advancementsModel.addTask(this.child);
+    assertTrue(this.trackedAdvancements.isTrackedAdvancement("test:child"));
+
+    Date date = new Date();
+    this.advancementsModel.updateProgress(
+        this.child,
+        new InMemoryAdvancementNodeProgress(this.child).grant("first", date).grant("second", date));
+
+    assertFalse(this.trackedAdvancements.isTrackedAdvancement("test:child"));
+    assertTrue(store.getTrackedAdvancements(null).isEmpty());
+  }
+
+  @Test
+  void clearDropsAllAdvancements() {
+    this.advancementsModel.addTask(this.child);
+    int version = this.advancementsModel.getVersion();
+
+    this.advancementsModel.clear();
+
+    assertTrue(this.advancementsModel.getIndex().isEmpty());
+    assertEquals(0, this.advancementsModel.getIndex().getNumberOfRoots());
+    assertTrue(this.advancementsModel.getVersion() > version);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryTrackedAdvancementsStorage;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrackedAdvancementsStoreTest {
+
+  private static final String SERVER_INDEX_FILE_NAME = "tracked_servers.json";
+  private static final long DAY_IN_MILLISECONDS = 24L * 60 * 60 * 1000;
+  private static final String SERVER_A = "Server_A:763::";
+  private static final String SERVER_B = "Server_B:763::";
+  private static final String SERVER_C = "Server_C:763::";
+
+  private final InMemoryTrackedAdvancementsStorage storage =
+      new InMemoryTrackedAdvancementsStorage();
+
+  @Test
+  void serversAreEvictedAfterTheRetention() {
+    long currentTime = System.currentTimeMillis();
+    writeServer(SERVER_A, currentTime - 40 * DAY_IN_MILLISECONDS, "test:a");
+    writeServer(SERVER_B, currentTime - 10 * DAY_IN_MILLISECONDS, "test:b");
+
+    // Only local worlds are played, which still needs to clean up the server index.
+    TrackedAdvancementsStore store = new TrackedAdvancementsStore(this.storage, 30, 10);
+    assertEquals(List.of(), store.getTrackedAdvancements(null));
+
+    assertFalse(readServerIndex().has(getServerHash(SERVER_A)));
+    assertNull(this.storage.read(getServerRecordFileName(SERVER_A)));
+    assertTrue(readServerIndex().has(getServerHash(SERVER_B)));
+    assertNotNull(this.storage.read(getServerRecordFileName(SERVER_B)));
+  }
+
+  @Test
+  void leastRecentlyVisitedServersAreEvictedAboveTheMaxServers() {
+    TrackedAdvancementsStore store = new TrackedAdvancementsStore(this.storage, 0, 2);
+    store.setTrackedAdvancements(SERVER_A, List.of("test:a"));
+    store.setTrackedAdvancements(SERVER_B, List.of("test:b"));
+    assertEquals(List.of("test:a"), store.getTrackedAdvancements(SERVER_A));
+
+    assertEquals(List.of(), store.getTrackedAdvancements(SERVER_C));
+
+    assertFalse(readServerIndex().has(getServerHash(SERVER_B)));
+    assertNull(this.storage.read(getServerRecordFileName(SERVER_B)));
+    assertTrue(readServerIndex().has(getServerHash(SERVER_A)));
+    assertTrue(readServerIndex().has(getServerHash(SERVER_C)));
+  }
+
+  @Test
+  void serverIndexIsOrderedByLastVisit() {
+    writeServer(SERVER_A, 3000, "test:a");
+    writeServer(SERVER_B, 1000, "test:b");
+    writeServer(SERVER_C, 2000, "test:c");
+
+    TrackedAdvancementsStore store = new TrackedAdvancementsStore(this.storage, 0, 2);
+    store.getTrackedAdvancements(null);
+
+    assertFalse(readServerIndex().has(getServerHash(SERVER_B)));
+    assertNull(this.storage.read(getServerRecordFileName(SERVER_B)));
+    assertEquals(List.of("test:a"), store.getTrackedAdvancements(SERVER_A));
+    assertEquals(List.of("test:c"), store.getTrackedAdvancements(SERVER_C));
+  }
+
+  @Test
+  void legacyTrackedAdvancementsAreMigrated() {
+    TrackedAdvancementsStore store =
+        new TrackedAdvancementsStore(
+            this.storage,
+            0,
+            10,
+            List.of("", "test:local", "test:local"),
+            List.of(
+                "",
+                SERVER_A + "test:first",
+                SERVER_A + "test:second",
+                SERVER_B + "test:third",
+                "test:invalid"));
+
+    assertEquals(List.of("test:local"), store.getTrackedAdvancements(null));
+    assertTrue(store.isLegacyTrackedAdvancementsMigrated());
+    assertNotNull(this.storage.read("tracked_advancements.json"));
+    assertEquals(List.of("test:first", "test:second"), store.getTrackedAdvancements(SERVER_A));
+    assertEquals(List.of("test:third"), store.getTrackedAdvancements(SERVER_B));
+    assertTrue(readServerIndex().has(getServerHash(SERVER_A)));
+    assertTrue(readServerIndex().has(getServerHash(SERVER_B)));
+  }
+
+  @Test
+  void legacyTrackedAdvancementsAreIgnoredWithLocalFile() {
+    new TrackedAdvancementsStore(this.storage, 0, 10)
+        .setTrackedAdvancements(null, List.of("test:local"));
+
+    TrackedAdvancementsStore store =
+        new TrackedAdvancementsStore(
+            this.storage, 0, 10, List.of("test:legacy"), List.of(SERVER_A + "test:legacy"));
+
+    assertEquals(List.of("test:local"), store.getTrackedAdvancements(null));
+    assertTrue(store.isLegacyTrackedAdvancementsMigrated());
+    assertNull(this.storage.read(SERVER_INDEX_FILE_NAME));
+  }
+
+  @Test
+  void duplicatesAndUntrackedPinnedAdvancementsAreRemoved() {
+    TrackedAdvancementsStore store = new TrackedAdvancementsStore(this.storage, 0, 10);
+    store.setTrackedAdvancements(
+        SERVER_A,
+        List.of("test:first", "test:second", "test:first"),
+        List.of("test:second", "test:untracked", "test:second"));
+
+    TrackedAdvancementsStore reloadedStore = new TrackedAdvancementsStore(this.storage, 0, 10);
+    assertEquals(
+        List.of("test:first", "test:second"), reloadedStore.getTrackedAdvancements(SERVER_A));
+    assertEquals(List.of("test:second"), reloadedStore.getPinnedAdvancements(SERVER_A));
+  }
+
+  private void writeServer(String serverId, long lastVisited, String trackedAdvancement) {
+    String serverHash = getServerHash(serverId);
+    JsonObject serverIndex =
+        this.storage.read(SERVER_INDEX_FILE_NAME) != null ? readServerIndex() : new JsonObject();
+    JsonObject serverObject = new JsonObject();
+    serverObject.addProperty("serverId", serverId);
+    serverObject.addProperty("lastVisited", lastVisited);
+    serverIndex.add(serverHash, serverObject);
+    this.storage.write(SERVER_INDEX_FILE_NAME, serverIndex.toString());
+    this.storage.write(
+        getServerRecordFileName(serverId),
+        "{\"serverId\": \"" + serverId + "\", \"tracked\": [\"" + trackedAdvancement + "\"]}");
+  }
+
+  private JsonObject readServerIndex() {
+    return JsonParser.parseString(this.storage.read(SERVER_INDEX_FILE_NAME)).getAsJsonObject();
+  }
+
+  private static String getServerHash(String serverId) {
+    return TrackedAdvancementsStore.getServerHash(serverId);
+  }
+
+  private static String getServerRecordFileName(String serverId) {
+    return "servers/" + getServerHash(serverId) + ".json";
+  }
+}
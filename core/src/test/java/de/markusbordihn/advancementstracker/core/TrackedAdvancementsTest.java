@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryTrackedAdvancementsStorage;
+import de.markusbordihn.advancementstracker.core.memory.MonospaceTextMeasurer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrackedAdvancementsTest {
+
+  private static final TextMeasurer TEXT_MEASURER = new MonospaceTextMeasurer();
+  private static final String SERVER_ID = "Test_Server:763::";
+
+  private final InMemoryAdvancementNode root = new InMemoryAdvancementNode("test:root", null);
+  private final InMemoryTrackedAdvancementsStorage storage =
+      new InMemoryTrackedAdvancementsStorage();
+
+  private boolean autoOrder = false;
+  private int numberOfChanges = 0;
+  private TrackedAdvancementsStore store;
+  private TrackedAdvancements<AdvancementNodeEntry> trackedAdvancements;
+
+  @BeforeEach
+  void setUp() {
+    this.store = new TrackedAdvancementsStore(this.storage, 0, 10);
+    this.trackedAdvancements = createTrackedAdvancements();
+    this.trackedAdvancements.load(this.store, null, List.of());
+  }
+
+  @Test
+  void trackedAdvancementsAreOrderedWithPinnedFirst() {
+    AdvancementNodeEntry first = createEntry("test:first", 0);
+    AdvancementNodeEntry second = createEntry("test:second", 0);
+    AdvancementNodeEntry third = createEntry("test:third", 0);
+    this.trackedAdvancements.trackAdvancements(List.of(first, second, third));
+
+    this.trackedAdvancements.togglePinnedAdvancement(third);
+
+    assertEquals(List.of(third, first, second), this.trackedAdvancements.getTrackedAdvancements());
+    assertTrue(this.trackedAdvancements.isPinnedAdvancement(third));
+    assertEquals(3, this.trackedAdvancements.numOfTrackedAdvancements(createRootEntry()));
+    assertTrue(this.numberOfChanges > 0);
+  }
+
+  @Test
+  void advancementsAreOnlyMovedWithinTheirGroup() {
+    AdvancementNodeEntry first = createEntry("test:first", 0);
+    AdvancementNodeEntry second = createEntry("test:second", 0);
+    AdvancementNodeEntry third = createEntry("test:third", 0);
+    this.trackedAdvancements.trackAdvancements(List.of(first, second, third));
+    this.trackedAdvancements.togglePinnedAdvancement(first);
+
+    this.trackedAdvancements.moveTrackedAdvancementUp(second);
+    assertEquals(List.of(first, second, third), this.trackedAdvancements.getTrackedAdvancements());
+
+    this.trackedAdvancements.moveTrackedAdvancementDown(second);
+    assertEquals(List.of(first, third, second), this.trackedAdvancements.getTrackedAdvancements());
+  }
+
+  @Test
+  void autoOrderSortsByProgressAndDisablesMoves() {
+    AdvancementNodeEntry first = createEntry("test:first", 0);
+    AdvancementNodeEntry second = createEntry("test:second", 2);
+    AdvancementNodeEntry third = createEntry("test:third", 1);
+    this.trackedAdvancements.trackAdvancements(List.of(first, second, third));
+    this.autoOrder = true;
+
+    this.trackedAdvancements.updateTrackedAdvancementProgress(first);
+    assertEquals(List.of(second, third, first), this.trackedAdvancements.getTrackedAdvancements());
+    assertFalse(this.trackedAdvancements.canMoveTrackedAdvancements());
+
+    this.trackedAdvancements.moveTrackedAdvancementUp(first);
+    assertEquals(List.of(second, third, first), this.trackedAdvancements.getTrackedAdvancements());
+  }
+
+  @Test
+  void toggleTrackedAdvancementsOfRoot() {
+    AdvancementNodeEntry rootEntry = createRootEntry();
+    AdvancementNodeEntry first = createEntry("test:first", 0);
+    AdvancementNodeEntry done = createEntry("test:done", 4);
+
+    this.trackedAdvancements.toggleTrackedAdvancements(rootEntry, List.of(first, done));
+    assertEquals(List.of(first), this.trackedAdvancements.getTrackedAdvancements());
+    assertTrue(this.trackedAdvancements.hasTrackedAdvancement(rootEntry));
+
+    this.trackedAdvancements.toggleTrackedAdvancements(rootEntry, List.of(first, done));
+    assertFalse(this.trackedAdvancements.hasTrackedAdvancements());
+    assertFalse(this.trackedAdvancements.hasTrackedAdvancement(rootEntry));
+  }
+
+  @Test
+  void storedOrderAndPinsAreRestored() {
+    List<AdvancementNodeEntry> entries = new ArrayList<>();
+    for (int index = 0; index < 5; index++) {
+      entries.add(createEntry("test:advancement_" + index, 0));
+    }
+    this.trackedAdvancements.trackAdvancements(entries);
+    this.trackedAdvancements.moveTrackedAdvancementUp(entries.get(3));
+    this.trackedAdvancements.togglePinnedAdvancement(entries.get(4));
+    List<AdvancementNodeEntry> expectedOrder =
+        List.copyOf(this.trackedAdvancements.getTrackedAdvancements());
+
+    // Reload from the stored files and add the advancements in a different order.
+    TrackedAdvancements<AdvancementNodeEntry> restoredAdvancements = createTrackedAdvancements();
+    restoredAdvancements.load(new TrackedAdvancementsStore(this.storage, 0, 10), null, List.of());
+    for (int index = entries.size() - 1; index >= 0; index--) {
+      restoredAdvancements.checkForTrackedAdvancement(entries.get(index));
+    }
+
+    assertEquals(expectedOrder, restoredAdvancements.getTrackedAdvancements());
+    assertTrue(restoredAdvancements.isPinnedAdvancement(entries.get(4)));
+  }
+
+  @Test
+  void serverAndLocalAdvancementsAreSeparated() {
+    AdvancementNodeEntry first = createEntry("test:first", 0);
+    AdvancementNodeEntry second = createEntry("test:second", 0);
+    this.trackedAdvancements.trackAdvancement(first, true);
+
+    this.trackedAdvancements.load(this.store, SERVER_ID, List.of("test:second"));
+    this.trackedAdvancements.checkForTrackedAdvancement(first);
+    this.trackedAdvancements.checkForTrackedAdvancement(second);
+
+    assertEquals(List.of(second), this.trackedAdvancements.getTrackedAdvancements());
+    assertEquals(List.of("test:first"), this.store.getTrackedAdvancements(null));
+    assertTrue(this.store.getTrackedAdvancements(SERVER_ID).isEmpty());
+  }
+
+  @Test
+  void completedAdvancementsAreNotTracked() {
+    AdvancementNodeEntry done = createEntry("test:done", 4);
+
+    this.trackedAdvancements.toggleTrackedAdvancement(done);
+
+    assertFalse(this.trackedAdvancements.isTrackedAdvancement(done));
+    assertFalse(this.storage.getFiles().containsKey("tracked_advancements.json"));
+  }
+
+  private TrackedAdvancements<AdvancementNodeEntry> createTrackedAdvancements() {
+    return new TrackedAdvancements<>(() -> this.autoOrder, () -> this.numberOfChanges++);
+  }
+
+  private AdvancementNodeEntry createRootEntry() {
+    return new AdvancementNodeEntry(this.root, null, TEXT_MEASURER, key -> null);
+  }
+
+  /** Creates an advancement with four criteria, of which the given number is completed. */
+  private AdvancementNodeEntry createEntry(String id, int completedCriteria) {
+    InMemoryAdvancementNode advancementNode =
+        new InMemoryAdvancementNode(id, this.root, "first", "second", "third", "fourth");
+    InMemoryAdvancementNodeProgress advancementProgress =
+        new InMemoryAdvancementNodeProgress(advancementNode);
+    String[][] requirements = advancementNode.getRequirements();
+    for (int index = 0; index < completedCriteria; index++) {
+      advancementProgress.grant(requirements[index][0], new Date());
+    }
+    return new AdvancementNodeEntry(
+        advancementNode, advancementProgress, TEXT_MEASURER, key -> null);
+  }
+}
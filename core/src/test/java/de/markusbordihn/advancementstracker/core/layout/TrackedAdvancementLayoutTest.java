@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.core.layout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNodeEntry;
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNode;
+import de.markusbordihn.advancementstracker.core.memory.InMemoryAdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.memory.MonospaceTextMeasurer;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class TrackedAdvancementLayoutTest {
+
+  private static final TextMeasurer TEXT_MEASURER = new MonospaceTextMeasurer(6, 9);
+  private static final int WIDTH = 130;
+
+  private final InMemoryAdvancementNode root = new InMemoryAdvancementNode("test:root", null);
+
+  @Test
+  void shortTextIsNotTrimmed() {
+    AdvancementNodeEntry advancementEntry = createEntry("Short title", "Short description");
+
+    TrackedAdvancementLayout layout =
+        new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDTH);
+
+    assertEquals("Short title", layout.getTitleText());
+    assertFalse(layout.hasTitleEllipsis());
+    assertEquals(1, layout.getDescriptionLines().size());
+    assertFalse(layout.hasDescriptionEllipsis());
+    assertNull(layout.getProgressText());
+    assertEquals(layout.getDescriptionTop(1), layout.getHeight());
+  }
+
+  @Test
+  void longTitleIsTrimmedWithEllipsis() {
+    AdvancementNodeEntry advancementEntry =
+        createEntry("\u00A76A very long advancement title for the widget", "");
+
+    TrackedAdvancementLayout layout =
+        new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDTH);
+
+    assertTrue(layout.hasTitleEllipsis());
+    assertTrue(layout.getTitleText().startsWith("A very long"));
+    assertTrue(TEXT_MEASURER.width(layout.getTitleText()) <= layout.getTitleWidthScaled());
+    assertTrue(layout.getDescriptionLines().isEmpty());
+  }
+
+  @Test
+  void longDescriptionIsLimitedToThreeLines() {
+    AdvancementNodeEntry advancementEntry =
+        createEntry(
+            "Title",
+            "Craft a very long chain of items, visit every biome of the world and defeat all"
+                + " bosses, which are spawned by the modpack, without dying a single time.");
+
+    TrackedAdvancementLayout layout =
+        new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDTH);
+
+    assertEquals(3, layout.getDescriptionLines().size());
+    assertTrue(layout.hasDescriptionEllipsis());
+    assertTrue(layout.getDescriptionEllipsisOffset() > 0);
+    assertEquals(layout.getDescriptionTop(3), layout.getHeight());
+  }
+
+  @Test
+  void progressIsShownForMultipleCriteria() {
+    InMemoryAdvancementNode advancementNode =
+        new InMemoryAdvancementNode("test:progress", this.root, "first", "second", "third");
+    AdvancementNodeEntry advancementEntry =
+        new AdvancementNodeEntry(
+            advancementNode,
+            new InMemoryAdvancementNodeProgress(advancementNode).grant("first", new Date()),
+            TEXT_MEASURER,
+            key -> null);
+
+    TrackedAdvancementLayout layout =
+        new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDTH);
+
+    assertEquals("1/3", layout.getProgressText());
+    assertTrue(layout.getProgressLeft() > layout.getTitleLeft());
+  }
+
+  @Test
+  void layoutIsInvalidatedByProgressAndWidth() {
+    InMemoryAdvancementNode advancementNode =
+        new InMemoryAdvancementNode("test:progress", this.root, "first", "second");
+    AdvancementNodeEntry advancementEntry =
+        new AdvancementNodeEntry(advancementNode, null, TEXT_MEASURER, key -> null);
+    TrackedAdvancementLayout layout =
+        new TrackedAdvancementLayout(TEXT_MEASURER, advancementEntry, WIDTH);
+    assertTrue(layout.isValid(advancementEntry, WIDTH));
+    assertFalse(layout.isValid(advancementEntry, WIDTH + 10));
+
+    advancementEntry
+        .getProgress()
+        .update(new InMemoryAdvancementNodeProgress(advancementNode).grant("first", new Date()));
+
+    assertFalse(layout.isValid(advancementEntry, WIDTH));
+  }
+
+  private AdvancementNodeEntry createEntry(String title, String description) {
+    InMemoryAdvancementNode advancementNode =
+        new InMemoryAdvancementNode(
+            "test:advancement", this.root, title, description, new String[0][]);
+    return new AdvancementNodeEntry(advancementNode, null, TEXT_MEASURER, key -> null);
+  }
+}
@@ -54,6 +54,7 @@ public class AdvancementsTracker {
         () ->
             () -> {
               modEventBus.addListener(ClientGui::registerClientGui);
+              modEventBus.addListener(ClientGui::registerClientReloadListeners);
               modEventBus.addListener(ModKeyMapping::registerKeyMapping);
             });
   }
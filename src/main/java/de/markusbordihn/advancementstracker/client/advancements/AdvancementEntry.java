@@ -24,48 +24,39 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.core.AdvancementNodeEntry;
+import de.markusbordihn.advancementstracker.core.AdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.utils.gui.FontTextMeasurer;
 import java.util.Comparator;
 import net.minecraft.advancements.Advancement;
-import net.minecraft.advancements.AdvancementProgress;
 import net.minecraft.advancements.AdvancementRewards;
 import net.minecraft.advancements.DisplayInfo;
 import net.minecraft.advancements.FrameType;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.Font;
+import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TextColor;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.fml.loading.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class AdvancementEntry implements Comparator<AdvancementEntry> {
+public class AdvancementEntry extends AdvancementNodeEntry implements Comparator<AdvancementEntry> {
 
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
   // General
   private final ResourceLocation id;
-  private final String idString;
   // Text Components
   private final Component descriptionComponent;
   private final Component titleComponent;
-  // Helper Tools
-  private final Font font;
-  private final Minecraft minecraft;
   Advancement advancement;
   Advancement rootAdvancement;
   DisplayInfo displayInfo;
-  ResourceLocation rootId;
-  String[][] requirements;
-  int rootLevel = 0;
   // Display Information
   private ItemStack icon;
   private ResourceLocation background;
-  private String description;
-  private String title;
   private FrameType frameType;
-  private int titleWidth;
   private int descriptionColor = 0xFFDDDDDD;
   private int titleColor = 0xFFFFFFFF;
   // Rewards
@@ -79,58 +70,39 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
   private boolean hasRewards = false;
   private boolean hasRewardsData = false;
   private boolean hasRewardsLoaded = false;
-  // Progress
-  private AdvancementEntryProgress advancementProgress;
 
-  AdvancementEntry(Advancement advancement, AdvancementProgress advancementProgress) {
-    // General Helper Tools
-    this.minecraft = Minecraft.getInstance();
-    this.font = this.minecraft.font;
-
-    // Advancement Progress
-    this.advancementProgress = new AdvancementEntryProgress(advancement, advancementProgress);
+  AdvancementEntry(
+      VanillaAdvancementNode advancementNode, AdvancementNodeProgress advancementProgress) {
+    super(
+        advancementNode,
+        advancementProgress,
+        new FontTextMeasurer(Minecraft.getInstance().font),
+        AdvancementEntry::getTranslation);
 
     // Advancements Data
-    this.advancement = advancement;
-    this.displayInfo = advancement.getDisplay();
-    this.id = advancement.getId();
-    this.idString = advancement.getId().toString();
-    this.rootAdvancement = advancement.getParent();
-    this.requirements = advancement.getRequirements();
-
-    if (this.rootAdvancement != null) {
-      while (this.rootAdvancement.getParent() != null) {
-        this.rootAdvancement = this.rootAdvancement.getParent();
-        rootLevel++;
-      }
-      this.rootId = this.rootAdvancement.getId();
+    this.advancement = advancementNode.getAdvancement();
+    this.displayInfo = this.advancement.getDisplay();
+    this.id = this.advancement.getId();
+    this.rootAdvancement = this.advancement.getParent();
+    while (this.rootAdvancement != null && this.rootAdvancement.getParent() != null) {
+      this.rootAdvancement = this.rootAdvancement.getParent();
     }
 
-    // Handle display information like background, colors and description.
+    // Handle display information like background, icon and colors.
     if (this.displayInfo != null) {
       this.background = this.displayInfo.getBackground();
-
-      // Title
       this.icon = this.displayInfo.getIcon();
-      this.title = this.displayInfo.getTitle().getString();
-      this.titleWidth = this.font.width(this.title);
       TextColor titleTextColor = this.displayInfo.getTitle().getStyle().getColor();
       if (titleTextColor != null) {
         this.titleColor = titleTextColor.getValue();
       }
-
-      // Description
-      this.description = this.displayInfo.getDescription().getString();
       TextColor descriptionTextColor = this.displayInfo.getDescription().getStyle().getColor();
       if (descriptionTextColor != null) {
         this.descriptionColor = descriptionTextColor.getValue();
       }
-
       this.frameType = this.displayInfo.getFrame();
     } else {
       this.background = null;
-      this.title = advancement.getId().toString();
-      this.titleWidth = this.font.width(this.title);
     }
 
     // Use background from root advancement if we don't have any itself.
@@ -142,20 +114,20 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
     }
 
     // Stripped version for ui renderer.
-    this.descriptionComponent = Component.literal(stripControlCodes(this.description));
-    this.titleComponent = Component.literal(stripControlCodes(this.title));
+    this.descriptionComponent = Component.literal(getPlainDescription());
+    this.titleComponent = Component.literal(getPlainTitle());
 
     // Handle Rewards like experience, loot and recipes.
-    this.rewards = advancement.getRewards();
+    this.rewards = this.advancement.getRewards();
   }
 
-  private static String stripControlCodes(String value) {
-    return value == null ? "" : net.minecraft.util.StringUtil.stripColor(value);
+  private static String getTranslation(String key) {
+    Language language = Language.getInstance();
+    return language.has(key) ? language.getOrDefault(key) : null;
   }
 
   public static Comparator<AdvancementEntry> sortByTitle() {
-    return Comparator.comparing(
-        (AdvancementEntry firstAdvancementEntry) -> firstAdvancementEntry.title);
+    return Comparator.comparing(AdvancementEntry::getTitleString);
   }
 
   public static Comparator<AdvancementEntry> sortByStatus() {
@@ -165,28 +137,23 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
               firstAdvancementEntry.getProgress().isDone(),
               secondAdvancementEntry.getProgress().isDone());
       if (result == 0) {
-        result = firstAdvancementEntry.title.compareTo(secondAdvancementEntry.title);
+        result =
+            firstAdvancementEntry
+                .getTitleString()
+                .compareTo(secondAdvancementEntry.getTitleString());
       }
       return result;
     };
   }
 
   public boolean isTracked() {
-    return TrackedAdvancementsManager.isTrackedAdvancement(advancement);
-  }
-
-  public AdvancementEntryProgress getProgress() {
-    return this.advancementProgress;
+    return TrackedAdvancementsManager.isTrackedAdvancement(this);
   }
 
   public ResourceLocation getId() {
     return this.id;
   }
 
-  public String getIdString() {
-    return this.idString;
-  }
-
   public ResourceLocation getBackground() {
     return this.background;
   }
@@ -203,38 +170,18 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
     return this.descriptionComponent;
   }
 
-  public String getDescriptionString() {
-    return this.description;
-  }
-
   public int getDescriptionColor() {
     return this.descriptionColor;
   }
 
-  public String getSortName() {
-    return StringUtils.toLowerCase(stripControlCodes(this.title));
-  }
-
   public Component getTitle() {
     return this.titleComponent;
   }
 
-  public String getTitleString() {
-    return this.title;
-  }
-
-  public int getTitleWidth() {
-    return this.titleWidth;
-  }
-
   public int getTitleColor() {
     return this.titleColor;
   }
 
-  public void updateAdvancementProgress(AdvancementProgress advancementProgress) {
-    this.advancementProgress.update(advancementProgress);
-  }
-
   public Integer getRewardsExperience() {
     if (this.rewardsExperience == null) {
       JsonObject rewardsData = getRewardsData();
@@ -335,25 +282,6 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
     return this.hasRecipesReward;
   }
 
-  @Override
-  public boolean equals(Object object) {
-    if (object == null) {
-      return false;
-    }
-    if (!(object instanceof AdvancementEntry)) {
-      return false;
-    }
-    if (object == this) {
-      return true;
-    }
-    return this.id == ((AdvancementEntry) object).id;
-  }
-
-  @Override
-  public int hashCode() {
-    return this.id.hashCode();
-  }
-
   @Override
   public int compare(
       AdvancementEntry firstAdvancementEntry, AdvancementEntry secondAdvancementEntry) {
@@ -362,18 +290,18 @@ public class AdvancementEntry implements Comparator<AdvancementEntry> {
 
   @Override
   public String toString() {
-    if (this.rootAdvancement == null) {
+    if (getRootIdString() == null) {
       return String.format(
           "[Root Advancement] (%s) %s: %s %s",
-          this.frameType, this.id, this.title, this.advancementProgress.getProgress());
+          this.frameType, this.id, getTitleString(), getProgress().getProgress());
     }
     return String.format(
         "[Advancement %s] (%s) %s => %s: %s %s",
-        this.rootLevel,
+        getRootLevel(),
         this.frameType,
-        this.rootId,
+        getRootIdString(),
         this.id,
-        this.title,
-        this.advancementProgress.getProgress());
+        getTitleString(),
+        getProgress().getProgress());
   }
 }
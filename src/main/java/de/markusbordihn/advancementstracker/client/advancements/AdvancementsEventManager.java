@@ -59,13 +59,13 @@ public class AdvancementsEventManager {
         if (advancementId.contains("/root") || advancementId.contains(":root")) {
           ClientAdvancementManager.reset();
         }
-        AdvancementsManager.addAdvancementRoot(advancement);
+        AdvancementsManager.addAdvancementRoot(new VanillaAdvancementNode(advancement));
       } else {
         while (rootAdvancement != null && rootAdvancement.getParent() != null) {
           rootAdvancement = rootAdvancement.getParent();
         }
-        AdvancementsManager.addAdvancementRoot(rootAdvancement);
-        AdvancementsManager.addAdvancementTask(advancement);
+        AdvancementsManager.addAdvancementRoot(new VanillaAdvancementNode(rootAdvancement));
+        AdvancementsManager.addAdvancementTask(new VanillaAdvancementNode(advancement));
       }
 
       // Make sure that we are covering changes which are not catch by the advancements events.
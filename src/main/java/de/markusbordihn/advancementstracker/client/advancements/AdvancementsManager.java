@@ -20,16 +20,12 @@
 package de.markusbordihn.advancementstracker.client.advancements;
 
 import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import de.markusbordihn.advancementstracker.core.AdvancementNodeProgress;
+import de.markusbordihn.advancementstracker.core.AdvancementsModel;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.minecraft.advancements.Advancement;
-import net.minecraft.advancements.AdvancementProgress;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -42,13 +38,14 @@ public class AdvancementsManager {
 
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
 
+  private static final AdvancementsModel<AdvancementEntry> advancementsModel =
+      new AdvancementsModel<>(
+          (advancementNode, advancementProgress) ->
+              new AdvancementEntry((VanillaAdvancementNode) advancementNode, advancementProgress),
+          TrackedAdvancementsManager.getTrackedAdvancementsModel());
+
   private static AdvancementEntry selectedAdvancement;
   private static AdvancementEntry selectedRootAdvancement;
-  private static Map<Advancement, AdvancementProgress> advancementProgressMap = new HashMap<>();
-  private static Map<ResourceLocation, Set<AdvancementEntry>> advancementsMap = new HashMap<>();
-  private static Set<AdvancementEntry> rootAdvancements = new HashSet<>();
-  private static Set<String> advancementsIndex = new HashSet<>();
-  private static boolean hasAdvancements = false;
 
   protected AdvancementsManager() {}
 
@@ -63,56 +60,30 @@ public class AdvancementsManager {
 
   public static void reset() {
     log.debug("Reset Advancements Manager ...");
-    advancementProgressMap = new HashMap<>();
-    advancementsIndex = new HashSet<>();
-    advancementsMap = new HashMap<>();
-    hasAdvancements = false;
-    rootAdvancements = new HashSet<>();
+    advancementsModel.clear();
     selectedAdvancement = null;
     selectedRootAdvancement = null;
   }
 
-  public static void addAdvancementRoot(Advancement advancement) {
-    String advancementId = advancement.getId().toString();
-    if (hasAdvancement(advancementId)) {
-      return;
-    }
-    AdvancementProgress advancementProgress = getAdvancementProgress(advancement);
-    AdvancementEntry advancementEntry = new AdvancementEntry(advancement, advancementProgress);
-    rootAdvancements.add(advancementEntry);
-    advancementsIndex.add(advancementId);
-    log.debug("Added Root Advancement: {}", advancementEntry);
+  public static void handleAddAdvancementRoot(AdvancementNode advancementNode) {
+    advancementsModel.handleAddAdvancementRoot(advancementNode);
   }
 
-  public static void addAdvancementTask(Advancement advancement) {
-    String advancementId = advancement.getId().toString();
-    Advancement rootAdvancement = advancement.getParent();
+  public static void handleAddAdvancementTask(AdvancementNode advancementNode) {
+    advancementsModel.handleAddAdvancementTask(advancementNode);
+  }
 
-    // Try to add root advancement, if this is a child advancement.
-    while (rootAdvancement != null && rootAdvancement.getParent() != null) {
-      rootAdvancement = rootAdvancement.getParent();
-    }
-    if (rootAdvancement != null) {
-      addAdvancementRoot(rootAdvancement);
-    }
+  public static void handleUpdateAdvancementProgress(
+      AdvancementNode advancementNode, AdvancementNodeProgress advancementProgress) {
+    advancementsModel.handleUpdateAdvancementProgress(advancementNode, advancementProgress);
+  }
 
-    // Skip rest, if the advancement is already known.
-    if (hasAdvancement(advancementId)) {
-      return;
-    }
+  public static void addAdvancementRoot(AdvancementNode advancementNode) {
+    advancementsModel.addRoot(advancementNode);
+  }
 
-    // Get advancements stats and store the advancement data.
-    AdvancementProgress advancementProgress = getAdvancementProgress(advancement);
-    AdvancementEntry advancementEntry = new AdvancementEntry(advancement, advancementProgress);
-    Set<AdvancementEntry> childAdvancements =
-        advancementsMap.computeIfAbsent(advancementEntry.rootId, k -> new HashSet<>());
-    childAdvancements.add(advancementEntry);
-    advancementsIndex.add(advancementId);
-    if (!hasAdvancements) {
-      hasAdvancements = true;
-    }
-    log.debug("Added Advancement Task: {}", advancementEntry);
-    TrackedAdvancementsManager.checkForTrackedAdvancement(advancementEntry);
+  public static void addAdvancementTask(AdvancementNode advancementNode) {
+    advancementsModel.addTask(advancementNode);
   }
 
   public static boolean hasAdvancement(Advancement advancement) {
@@ -120,40 +91,24 @@ public class AdvancementsManager {
   }
 
   public static boolean hasAdvancement(String advancementId) {
-    return advancementsIndex.contains(advancementId);
+    return advancementsModel.getIndex().contains(advancementId);
   }
 
   public static boolean hasRootAdvancement(Advancement advancement) {
-    for (AdvancementEntry rootAdvancement : rootAdvancements) {
-      if (advancement.getId() == rootAdvancement.getId()) {
-        return true;
-      }
-    }
-    return false;
+    return getRootAdvancement(advancement) != null;
   }
 
   public static AdvancementEntry getRootAdvancement(Advancement advancement) {
-    for (AdvancementEntry rootAdvancement : rootAdvancements) {
-      if (advancement.getId() == rootAdvancement.getId()) {
-        return rootAdvancement;
-      }
-    }
-    return null;
+    return advancementsModel.getIndex().getRoot(advancement.getId().toString());
   }
 
   public static Set<AdvancementEntry> getRootAdvancements() {
-    return rootAdvancements;
+    return advancementsModel.getIndex().getRoots();
   }
 
   public static Set<AdvancementEntry> getSortedRootAdvancements(
       Comparator<AdvancementEntry> comparator) {
-    Set<AdvancementEntry> advancements = getRootAdvancements();
-    if (advancements == null) {
-      return new HashSet<>();
-    }
-    return advancements.stream()
-        .sorted(comparator)
-        .collect(Collectors.toCollection(LinkedHashSet::new));
+    return advancementsModel.getIndex().getSortedRoots(comparator);
   }
 
   public static Set<AdvancementEntry> getRootAdvancementsByTile() {
@@ -161,7 +116,7 @@ public class AdvancementsManager {
   }
 
   public static int getNumberOfRootAdvancements() {
-    return rootAdvancements.size();
+    return advancementsModel.getIndex().getNumberOfRoots();
   }
 
   public static int getNumberOfAdvancements(AdvancementEntry rootAdvancement) {
@@ -185,36 +140,23 @@ public class AdvancementsManager {
   }
 
   public static AdvancementEntry getAdvancement(String id) {
-    for (Set<AdvancementEntry> advancementEntries : advancementsMap.values()) {
-      for (AdvancementEntry advancementEntry : advancementEntries) {
-        if (id.equals(advancementEntry.getIdString())) {
-          return advancementEntry;
-        }
-      }
-    }
-    return null;
+    return advancementsModel.getIndex().get(id);
   }
 
   public static Set<AdvancementEntry> getAdvancements(AdvancementEntry rootAdvancement) {
     if (rootAdvancement == null) {
       log.error("Unable to get advancements for root advancement {}", rootAdvancement);
-      return new HashSet<>();
-    }
-    Set<AdvancementEntry> advancements = advancementsMap.get(rootAdvancement.getId());
-    if (advancements == null) {
-      return new HashSet<>();
+      return Set.of();
     }
-    return advancements;
+    return advancementsModel.getIndex().getEntries(rootAdvancement.getIdString());
   }
 
   public static Set<AdvancementEntry> getSortedAdvancements(
       AdvancementEntry rootAdvancement, Comparator<AdvancementEntry> comparator) {
-    Set<AdvancementEntry> advancements = getAdvancements(rootAdvancement);
-    return advancements.isEmpty()
-        ? advancements
-        : advancements.stream()
-            .sorted(comparator)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+    if (rootAdvancement == null) {
+      return Set.of();
+    }
+    return advancementsModel.getIndex().getSortedEntries(rootAdvancement.getIdString(), comparator);
   }
 
   public static Set<AdvancementEntry> getAdvancementsByTile(AdvancementEntry rootAdvancement) {
@@ -226,27 +168,8 @@ public class AdvancementsManager {
   }
 
   public static void updateAdvancementProgress(
-      Advancement advancement, AdvancementProgress advancementProgress) {
-    advancementProgressMap.put(advancement, advancementProgress);
-    AdvancementEntry advancementEntry = getAdvancement(advancement);
-    if (advancementEntry == null) {
-      advancementEntry = getRootAdvancement(advancement);
-      if (advancementEntry == null) {
-        log.error(
-            "Unable to find entry for advancement {} with progress {}",
-            advancement,
-            advancementProgress);
-        return;
-      }
-    }
-    advancementEntry.updateAdvancementProgress(advancementProgress);
-    if (advancementProgress.isDone()) {
-      TrackedAdvancementsManager.untrackAdvancement(advancement);
-    }
-  }
-
-  public static AdvancementProgress getAdvancementProgress(Advancement advancement) {
-    return advancementProgressMap.get(advancement);
+      AdvancementNode advancementNode, AdvancementNodeProgress advancementProgress) {
+    advancementsModel.updateProgress(advancementNode, advancementProgress);
   }
 
   public static AdvancementEntry getSelectedAdvancement() {
@@ -264,9 +187,8 @@ public class AdvancementsManager {
   }
 
   public static AdvancementEntry getSelectedRootAdvancement() {
-    if (selectedRootAdvancement == null
-        && rootAdvancements != null
-        && rootAdvancements.iterator().hasNext()) {
+    Set<AdvancementEntry> rootAdvancements = advancementsModel.getIndex().getRoots();
+    if (selectedRootAdvancement == null && rootAdvancements.iterator().hasNext()) {
       AdvancementEntry possibleRootAdvancement = rootAdvancements.iterator().next();
       if (possibleRootAdvancement != selectedRootAdvancement) {
         log.debug("Select root advancement: {}", selectedAdvancement);
@@ -280,12 +202,16 @@ public class AdvancementsManager {
   public static void setSelectedRootAdvancement(AdvancementEntry selectedRootAdvancement) {
     AdvancementsManager.selectedRootAdvancement = selectedRootAdvancement;
     if (selectedAdvancement != null
-        && selectedRootAdvancement.getId() != selectedAdvancement.rootId) {
+        && !selectedRootAdvancement.getIdString().equals(selectedAdvancement.getRootIdString())) {
       selectedAdvancement = null;
     }
   }
 
   public static boolean hasAdvancements() {
-    return hasAdvancements;
+    return !advancementsModel.getIndex().isEmpty();
+  }
+
+  public static int getVersion() {
+    return advancementsModel.getVersion();
   }
 }
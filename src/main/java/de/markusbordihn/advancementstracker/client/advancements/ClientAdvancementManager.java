@@ -21,6 +21,8 @@ package de.markusbordihn.advancementstracker.client.advancements;
 
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen;
+import de.markusbordihn.advancementstracker.core.AdvancementFilter;
+import de.markusbordihn.advancementstracker.core.replay.ListenerEventType;
 import net.minecraft.advancements.Advancement;
 import net.minecraft.advancements.AdvancementProgress;
 import net.minecraft.client.Minecraft;
@@ -121,57 +123,50 @@ public class ClientAdvancementManager implements ClientAdvancements.Listener {
     hasListener = true;
   }
 
+  public static ClientAdvancements.Listener getListener() {
+    return clientAdvancementManager;
+  }
+
   public static boolean isValidAdvancement(Advancement advancement) {
-    String advancementId = advancement.getId().toString();
-    if (advancementId.startsWith("minecraft:recipes/")
-        || advancementId.startsWith("smallships:recipes")) {
-      return false;
-    } else if (advancement.getDisplay() == null) {
-      log.debug("[Skip Advancement with no display information] {}", advancement);
-      return false;
-    }
-    return true;
+    return AdvancementFilter.isValidAdvancement(new VanillaAdvancementNode(advancement));
   }
 
   @Override
   public void onUpdateAdvancementProgress(
       Advancement advancement, AdvancementProgress advancementProgress) {
-    if (isValidAdvancement(advancement)) {
-      log.debug("[Update Advancement Progress] {} with {}", advancement, advancementProgress);
-      AdvancementsManager.updateAdvancementProgress(advancement, advancementProgress);
-    }
+    ListenerTrafficRecorder.recordProgress(advancement, advancementProgress);
+    AdvancementsManager.handleUpdateAdvancementProgress(
+        new VanillaAdvancementNode(advancement),
+        new VanillaAdvancementNodeProgress(advancementProgress));
   }
 
   @Override
   public void onAddAdvancementRoot(Advancement advancement) {
-    if (isValidAdvancement(advancement) && advancement.getParent() == null) {
-      log.debug("[Add Advancement Root] {}", advancement);
-      AdvancementsManager.addAdvancementRoot(advancement);
-    }
+    ListenerTrafficRecorder.record(ListenerEventType.ADD_ROOT, advancement);
+    AdvancementsManager.handleAddAdvancementRoot(new VanillaAdvancementNode(advancement));
   }
 
   @Override
   public void onRemoveAdvancementRoot(Advancement advancement) {
-    // Not used.
+    ListenerTrafficRecorder.record(ListenerEventType.REMOVE_ROOT, advancement);
     log.debug("[Remove Advancement Root] {}", advancement);
   }
 
   @Override
   public void onAddAdvancementTask(Advancement advancement) {
-    if (isValidAdvancement(advancement) && advancement.getParent() != null) {
-      log.debug("[Add Advancement Task] {}", advancement);
-      AdvancementsManager.addAdvancementTask(advancement);
-    }
+    ListenerTrafficRecorder.record(ListenerEventType.ADD_TASK, advancement);
+    AdvancementsManager.handleAddAdvancementTask(new VanillaAdvancementNode(advancement));
   }
 
   @Override
   public void onRemoveAdvancementTask(Advancement advancement) {
+    ListenerTrafficRecorder.record(ListenerEventType.REMOVE_TASK, advancement);
     log.debug("[Remove Advancement Task] {}", advancement);
   }
 
   @Override
   public void onAdvancementsCleared() {
-    // Not used.
+    ListenerTrafficRecorder.recordCleared();
     log.debug("[Advancements Cleared] ...");
   }
 
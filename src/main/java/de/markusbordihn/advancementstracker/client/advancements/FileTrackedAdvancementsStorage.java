@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancementsStorage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Stores the tracked advancements files inside the config folder. Writes are debounced by the
+ * {@link TrackedAdvancementsPersister}.
+ */
+public class FileTrackedAdvancementsStorage implements TrackedAdvancementsStorage {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private final Path storageDirectory;
+
+  public FileTrackedAdvancementsStorage() {
+    this(FMLPaths.CONFIGDIR.get().resolve(Constants.MOD_ID));
+  }
+
+  public FileTrackedAdvancementsStorage(Path storageDirectory) {
+    this.storageDirectory = storageDirectory;
+  }
+
+  public Path getStorageDirectory() {
+    return this.storageDirectory;
+  }
+
+  @Override
+  public String read(String name) {
+    Path path = this.storageDirectory.resolve(name);
+    if (!Files.exists(path)) {
+      return null;
+    }
+    try {
+      return Files.readString(path, StandardCharsets.UTF_8);
+    } catch (IOException exception) {
+      log.error("Unable to read tracked advancements from {}:", path, exception);
+    }
+    return null;
+  }
+
+  @Override
+  public void write(String name, String content) {
+    TrackedAdvancementsPersister.save(this.storageDirectory.resolve(name), content);
+  }
+
+  @Override
+  public void delete(String name) {
+    TrackedAdvancementsPersister.delete(this.storageDirectory.resolve(name));
+  }
+
+  @Override
+  public void flush() {
+    TrackedAdvancementsPersister.flush();
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.config.ClientConfig;
+import de.markusbordihn.advancementstracker.core.replay.CapturedAdvancement;
+import de.markusbordihn.advancementstracker.core.replay.ListenerCaptureWriter;
+import de.markusbordihn.advancementstracker.core.replay.ListenerEvent;
+import de.markusbordihn.advancementstracker.core.replay.ListenerEventType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.advancements.Advancement;
+import net.minecraft.advancements.AdvancementProgress;
+import net.minecraft.advancements.CriterionProgress;
+import net.minecraft.advancements.DisplayInfo;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records the callbacks of the client advancements listener for every loaded world, so that they
+ * could be replayed for benchmarks and profiling.
+ */
+@EventBusSubscriber(Dist.CLIENT)
+public class ListenerTrafficRecorder {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final ClientConfig.Config CLIENT = ClientConfig.CLIENT;
+  private static final DateTimeFormatter CAPTURE_NAME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+  private static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private static ListenerCaptureWriter captureWriter;
+  private static Path capturePath;
+  private static long captureStartTime;
+  private static long lastFlushTime;
+  private static int numberOfEvents;
+
+  protected ListenerTrafficRecorder() {}
+
+  @SubscribeEvent
+  public static void handleLevelEventLoad(LevelEvent.Load event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    stopRecording();
+    if (Boolean.TRUE.equals(CLIENT.debugRecordListenerTraffic.get())) {
+      startRecording();
+    }
+  }
+
+  @SubscribeEvent
+  public static void handleLevelEventUnload(LevelEvent.Unload event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    stopRecording();
+  }
+
+  @SubscribeEvent
+  public static void handleClientTickEvent(TickEvent.ClientTickEvent event) {
+    if (event.phase != TickEvent.Phase.END || captureWriter == null) {
+      return;
+    }
+
+    // Flush the buffered events regularly, so that a crash or killed game keeps the capture.
+    long currentTime = System.nanoTime();
+    if (currentTime - lastFlushTime < FLUSH_INTERVAL) {
+      return;
+    }
+    lastFlushTime = currentTime;
+    try {
+      captureWriter.flush();
+    } catch (IOException exception) {
+      log.error("Unable to flush advancements listener capture {}:", capturePath, exception);
+      stopRecording();
+    }
+  }
+
+  public static Path getCaptureDirectory() {
+    return FMLPaths.GAMEDIR.get().resolve(Constants.MOD_ID).resolve("captures");
+  }
+
+  private static void startRecording() {
+    // Dimension changes could load several worlds within the same second.
+    String captureName = LocalDateTime.now().format(CAPTURE_NAME_FORMAT);
+    Path path = getCaptureDirectory().resolve(captureName + ".bin");
+    for (int index = 1; Files.exists(path); index++) {
+      path = getCaptureDirectory().resolve(captureName + "_" + index + ".bin");
+    }
+    try {
+      Files.createDirectories(path.getParent());
+      captureWriter = new ListenerCaptureWriter(Files.newOutputStream(path));
+    } catch (IOException exception) {
+      log.error("Unable to record advancements listener traffic to {}:", path, exception);
+      return;
+    }
+    capturePath = path;
+    captureStartTime = System.nanoTime();
+    lastFlushTime = captureStartTime;
+    numberOfEvents = 0;
+    log.info("Recording advancements listener traffic to {} ...", capturePath);
+  }
+
+  private static void stopRecording() {
+    if (captureWriter == null) {
+      return;
+    }
+    try {
+      captureWriter.close();
+      log.info("Recorded {} advancements listener events to {}", numberOfEvents, capturePath);
+    } catch (IOException exception) {
+      log.error("Unable to close advancements listener capture {}:", capturePath, exception);
+    }
+    captureWriter = null;
+    capturePath = null;
+  }
+
+  public static boolean isRecording() {
+    return captureWriter != null;
+  }
+
+  public static void record(ListenerEventType type, Advancement advancement) {
+    if (captureWriter != null) {
+      write(type, getCapturedAdvancement(advancement), null);
+    }
+  }
+
+  public static void recordProgress(
+      Advancement advancement, AdvancementProgress advancementProgress) {
+    if (captureWriter != null) {
+      write(
+          ListenerEventType.UPDATE_PROGRESS,
+          getCapturedAdvancement(advancement),
+          getCapturedProgress(advancementProgress));
+    }
+  }
+
+  public static void recordCleared() {
+    if (captureWriter != null) {
+      write(ListenerEventType.CLEARED, null, null);
+    }
+  }
+
+  private static void write(
+      ListenerEventType type, CapturedAdvancement advancement, Map<String, Date> progress) {
+    try {
+      captureWriter.write(
+          new ListenerEvent(type, System.nanoTime() - captureStartTime, advancement, progress));
+      numberOfEvents++;
+    } catch (IOException exception) {
+      log.error("Unable to record advancements listener event {}:", type, exception);
+      stopRecording();
+    }
+  }
+
+  private static CapturedAdvancement getCapturedAdvancement(Advancement advancement) {
+    Advancement parentAdvancement = advancement.getParent();
+    String parentId = parentAdvancement != null ? parentAdvancement.getId().toString() : null;
+    DisplayInfo displayInfo = advancement.getDisplay();
+    if (displayInfo == null) {
+      return new CapturedAdvancement(
+          advancement.getId().toString(),
+          parentId,
+          null,
+          null,
+          null,
+          null,
+          null,
+          advancement.getRequirements());
+    }
+    ResourceLocation iconId = ForgeRegistries.ITEMS.getKey(displayInfo.getIcon().getItem());
+    ResourceLocation backgroundId = displayInfo.getBackground();
+    return new CapturedAdvancement(
+        advancement.getId().toString(),
+        parentId,
+        displayInfo.getTitle().getString(),
+        displayInfo.getDescription().getString(),
+        iconId != null ? iconId.toString() : null,
+        backgroundId != null ? backgroundId.toString() : null,
+        displayInfo.getFrame().getName(),
+        advancement.getRequirements());
+  }
+
+  private static Map<String, Date> getCapturedProgress(AdvancementProgress advancementProgress) {
+    Map<String, Date> capturedProgress = new LinkedHashMap<>();
+    for (String criterion : advancementProgress.getCompletedCriteria()) {
+      CriterionProgress criterionProgress = advancementProgress.getCriterion(criterion);
+      capturedProgress.put(
+          criterion, criterionProgress != null ? criterionProgress.getObtained() : null);
+    }
+    for (String criterion : advancementProgress.getRemainingCriteria()) {
+      capturedProgress.put(criterion, null);
+    }
+    return capturedProgress;
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.config.ClientConfig;
+import de.markusbordihn.advancementstracker.core.replay.CapturedAdvancement;
+import de.markusbordihn.advancementstracker.core.replay.ListenerCaptureReader;
+import de.markusbordihn.advancementstracker.core.replay.ListenerEvent;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.advancements.Advancement;
+import net.minecraft.advancements.AdvancementProgress;
+import net.minecraft.advancements.AdvancementRewards;
+import net.minecraft.advancements.Criterion;
+import net.minecraft.advancements.DisplayInfo;
+import net.minecraft.advancements.FrameType;
+import net.minecraft.client.multiplayer.ClientAdvancements;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Replays a recorded capture into the client advancement manager after joining a world, to
+ * reproduce large advancement trees and join storms without the original server.
+ */
+@EventBusSubscriber(Dist.CLIENT)
+public class ListenerTrafficReplayer {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final ClientConfig.Config CLIENT = ClientConfig.CLIENT;
+
+  private static List<ListenerEvent> events = List.of();
+  private static Map<String, Advancement> advancements = new HashMap<>();
+  private static boolean recordedSpeed = true;
+  private static int eventPosition = 0;
+  private static long replayStartTime = 0;
+  private static long replayDuration = 0;
+
+  protected ListenerTrafficReplayer() {}
+
+  @SubscribeEvent
+  public static void handleLevelEventLoad(LevelEvent.Load event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    events = List.of();
+    advancements = new HashMap<>();
+    String captureName = CLIENT.debugReplayListenerTraffic.get();
+    if (captureName == null || captureName.isBlank()) {
+      return;
+    }
+    Path capturePath = ListenerTrafficRecorder.getCaptureDirectory().resolve(captureName);
+    try {
+      events = ListenerCaptureReader.readAll(capturePath);
+    } catch (IOException exception) {
+      log.error("Unable to read advancements listener capture {}:", capturePath, exception);
+      return;
+    }
+    recordedSpeed = Boolean.TRUE.equals(CLIENT.debugReplayAtRecordedSpeed.get());
+    eventPosition = 0;
+    replayStartTime = 0;
+    replayDuration = 0;
+    log.info("Replaying {} advancements listener events from {} ...", events.size(), capturePath);
+  }
+
+  @SubscribeEvent
+  public static void handleClientTickEvent(TickEvent.ClientTickEvent event) {
+    if (event.phase != TickEvent.Phase.END || eventPosition >= events.size()) {
+      return;
+    }
+    ClientAdvancements.Listener listener = ClientAdvancementManager.getListener();
+    if (listener == null) {
+      return;
+    }
+    if (replayStartTime == 0) {
+      replayStartTime = System.nanoTime();
+    }
+
+    // Dispatch all events up to the current replay time, or all at once for the max. speed.
+    long replayTime = System.nanoTime() - replayStartTime;
+    long tickStartTime = System.nanoTime();
+    while (eventPosition < events.size()
+        && (!recordedSpeed || events.get(eventPosition).timestamp() <= replayTime)) {
+      dispatch(listener, events.get(eventPosition++));
+    }
+    replayDuration += System.nanoTime() - tickStartTime;
+
+    if (eventPosition >= events.size()) {
+      log.info(
+          "Replayed {} advancements listener events with {} ms processing time.",
+          events.size(),
+          TimeUnit.NANOSECONDS.toMillis(replayDuration));
+      events = List.of();
+      advancements = new HashMap<>();
+    }
+  }
+
+  private static void dispatch(ClientAdvancements.Listener listener, ListenerEvent event) {
+    switch (event.type()) {
+      case ADD_ROOT -> listener.onAddAdvancementRoot(getAdvancement(event.advancement()));
+      case ADD_TASK -> listener.onAddAdvancementTask(getAdvancement(event.advancement()));
+      case UPDATE_PROGRESS -> {
+        Advancement advancement = getAdvancement(event.advancement());
+        listener.onUpdateAdvancementProgress(
+            advancement, getAdvancementProgress(advancement, event.progress()));
+      }
+      case REMOVE_ROOT -> listener.onRemoveAdvancementRoot(getAdvancement(event.advancement()));
+      case REMOVE_TASK -> listener.onRemoveAdvancementTask(getAdvancement(event.advancement()));
+      case CLEARED -> {
+        advancements.clear();
+        listener.onAdvancementsCleared();
+      }
+    }
+  }
+
+  private static Advancement getAdvancement(CapturedAdvancement capturedAdvancement) {
+    Advancement advancement = advancements.get(capturedAdvancement.id());
+    if (advancement != null) {
+      return advancement;
+    }
+
+    // Captured advancements only contain the data which is needed by the advancements tracker.
+    DisplayInfo displayInfo = null;
+    if (capturedAdvancement.hasDisplay()) {
+      ResourceLocation iconId =
+          capturedAdvancement.icon() != null
+              ? ResourceLocation.tryParse(capturedAdvancement.icon())
+              : null;
+      ResourceLocation backgroundId =
+          capturedAdvancement.background() != null
+              ? ResourceLocation.tryParse(capturedAdvancement.background())
+              : null;
+      displayInfo =
+          new DisplayInfo(
+              new ItemStack(iconId != null ? ForgeRegistries.ITEMS.getValue(iconId) : Items.AIR),
+              Component.literal(capturedAdvancement.title()),
+              Component.literal(capturedAdvancement.description()),
+              backgroundId,
+              FrameType.byName(capturedAdvancement.frame()),
+              false,
+              false,
+              false);
+    }
+    Map<String, Criterion> criteria = new LinkedHashMap<>();
+    for (String[] requirement : capturedAdvancement.requirements()) {
+      for (String criterion : requirement) {
+        criteria.put(criterion, new Criterion());
+      }
+    }
+    advancement =
+        new Advancement(
+            new ResourceLocation(capturedAdvancement.id()),
+            capturedAdvancement.parentId() != null
+                ? advancements.get(capturedAdvancement.parentId())
+                : null,
+            displayInfo,
+            AdvancementRewards.EMPTY,
+            criteria,
+            capturedAdvancement.requirements(),
+            false);
+    advancements.put(capturedAdvancement.id(), advancement);
+    return advancement;
+  }
+
+  private static AdvancementProgress getAdvancementProgress(
+      Advancement advancement, Map<String, Date> capturedProgress) {
+    // Uses the network format, like the progress which is received from the server.
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    try {
+      buffer.writeVarInt(capturedProgress.size());
+      for (Map.Entry<String, Date> criterion : capturedProgress.entrySet()) {
+        buffer.writeUtf(criterion.getKey());
+        buffer.writeBoolean(criterion.getValue() != null);
+        if (criterion.getValue() != null) {
+          buffer.writeDate(criterion.getValue());
+        }
+      }
+      AdvancementProgress advancementProgress = AdvancementProgress.fromNetwork(buffer);
+      advancementProgress.update(advancement.getCriteria(), advancement.getRequirements());
+      return advancementProgress;
+    } finally {
+      buffer.release();
+    }
+  }
+}
@@ -22,11 +22,9 @@ package de.markusbordihn.advancementstracker.client.advancements;
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.gui.widget.AdvancementsTrackerWidget;
 import de.markusbordihn.advancementstracker.config.ClientConfig;
-import java.util.ArrayList;
-import java.util.HashSet;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancements;
+import de.markusbordihn.advancementstracker.core.TrackedAdvancementsStore;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import net.minecraft.advancements.Advancement;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ServerData;
@@ -43,11 +41,13 @@ public class TrackedAdvancementsManager {
 
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
 
-  private static Set<AdvancementEntry> trackedAdvancements = new HashSet<>();
-  private static List<String> trackedAdvancementsDefault = new ArrayList<>();
-  private static List<String> trackedAdvancementsLocal = new ArrayList<>();
-  private static List<String> trackedAdvancementsRemote = new ArrayList<>();
-  private static String serverId;
+  private static final ClientConfig.Config CLIENT = ClientConfig.CLIENT;
+
+  private static final TrackedAdvancements<AdvancementEntry> trackedAdvancements =
+      new TrackedAdvancements<>(
+          () -> Boolean.TRUE.equals(CLIENT.widgetAutoOrder.get()),
+          AdvancementsTrackerWidget::updateTrackedAdvancements);
+  private static TrackedAdvancementsStore trackedAdvancementsStore;
 
   protected TrackedAdvancementsManager() {}
 
@@ -60,162 +60,83 @@ public class TrackedAdvancementsManager {
 
     Minecraft minecraft = Minecraft.getInstance();
     ServerData serverData = minecraft != null ? minecraft.getCurrentServer() : null;
+    String serverId = null;
     if (serverData != null) {
       serverId =
           String.format("%s:%s::", serverData.name.replaceAll("\\W", "_"), serverData.protocol);
-    } else {
-      serverId = null;
-    }
-    trackedAdvancements = new HashSet<>();
-    log.info("Preparing tracked advancements ...");
-
-    // Loading default (over config file) tracked advancements.
-    trackedAdvancementsDefault = ClientConfig.CLIENT.trackedAdvancements.get();
-    if (!trackedAdvancementsDefault.isEmpty()) {
-      log.info("Loading default (config) tracked advancements: {}", trackedAdvancementsDefault);
-    }
-
-    // Loading local (user) tracked advancements.
-    trackedAdvancementsLocal = ClientConfig.CLIENT.trackedAdvancementsLocal.get();
-    if (!trackedAdvancementsLocal.isEmpty()) {
-      log.info("Loading local (user) tracked advancements: {}", trackedAdvancementsLocal);
     }
+    trackedAdvancements.load(getStore(), serverId, CLIENT.trackedAdvancements.get());
+    trackedAdvancements.updateOrder();
+    clearLegacyTrackedAdvancements();
+  }
 
-    // Loading remote tracked advancements, if we are connected to a server.
-    if (serverId != null) {
-      trackedAdvancementsRemote = ClientConfig.CLIENT.trackedAdvancementsRemote.get();
-      if (!trackedAdvancementsRemote.isEmpty()) {
-        log.info(
-            "Loading remote ({}) tracked advancements: {} ...",
-            serverId,
-            trackedAdvancementsRemote);
-      }
+  private static TrackedAdvancementsStore getStore() {
+    if (trackedAdvancementsStore == null) {
+      trackedAdvancementsStore =
+          new TrackedAdvancementsStore(
+              new FileTrackedAdvancementsStorage(),
+              CLIENT.trackedAdvancementsServerRetention.get(),
+              CLIENT.trackedAdvancementsMaxServers.get(),
+              CLIENT.trackedAdvancementsLocal.get(),
+              CLIENT.trackedAdvancementsRemote.get());
     }
-    updateTrackerWidget();
+    return trackedAdvancementsStore;
   }
 
-  public static void checkForTrackedAdvancement(AdvancementEntry advancement) {
-    // Ignore advancements which are done.
-    if (advancement.getProgress().isDone()) {
+  private static void clearLegacyTrackedAdvancements() {
+    if (!getStore().isLegacyTrackedAdvancementsMigrated()
+        || (!hasLegacyEntries(CLIENT.trackedAdvancementsLocal.get())
+            && !hasLegacyEntries(CLIENT.trackedAdvancementsRemote.get()))) {
       return;
     }
-    AdvancementEntry trackedAdvancement = null;
-
-    // Check first for default tracked advancement
-    if (!trackedAdvancementsDefault.isEmpty()) {
-      for (String trackedAdvancementDefault : trackedAdvancementsDefault) {
-        if (advancement.getIdString().equals(trackedAdvancementDefault)) {
-          log.debug("Adding default tracked advancement {}", advancement);
-          trackedAdvancement = advancement;
-          break;
-        }
-      }
-    }
 
-    // Check for remote tracked advancement
-    if (!trackedAdvancementsRemote.isEmpty() && serverId != null) {
-      for (String cachedAdvancementEntry : trackedAdvancementsRemote) {
-        if (!cachedAdvancementEntry.isEmpty()
-            && !cachedAdvancementEntry.isEmpty()
-            && cachedAdvancementEntry.startsWith(serverId)
-            && advancement.getIdString().equals(cachedAdvancementEntry.split("::", 2)[1])) {
-          log.debug("Adding remote tracked advancement {}", advancement);
-          trackedAdvancement = advancement;
-          break;
-        }
-      }
-    }
+    // Make sure the migrated entries are written, before they are removed from the config file.
+    getStore().getStorage().flush();
+    log.info("Removing migrated legacy tracked advancements from the config file ...");
+    ClientConfig.clearLegacyTrackedAdvancements();
+  }
 
-    // Check for local tracked advancement
-    if (!trackedAdvancementsLocal.isEmpty() && serverId == null) {
-      for (String cachedAdvancementEntry : trackedAdvancementsLocal) {
-        if (advancement.getIdString().equals(cachedAdvancementEntry)) {
-          log.debug("Adding local tracked advancement {}", advancement);
-          trackedAdvancement = advancement;
-          break;
-        }
+  private static boolean hasLegacyEntries(List<String> entries) {
+    for (String entry : entries) {
+      if (entry != null && !entry.isEmpty()) {
+        return true;
       }
     }
+    return false;
+  }
 
-    if (trackedAdvancement != null) {
-      trackAdvancement(trackedAdvancement, false);
-    }
+  public static TrackedAdvancements<AdvancementEntry> getTrackedAdvancementsModel() {
+    return trackedAdvancements;
   }
 
   public static void toggleTrackedAdvancement(AdvancementEntry advancement) {
-    if (advancement.getProgress().isDone()) {
-      return;
-    }
-    if (isTrackedAdvancement(advancement)) {
-      untrackAdvancement(advancement);
-    } else {
-      trackAdvancement(advancement);
-    }
+    trackedAdvancements.toggleTrackedAdvancement(advancement);
   }
 
   public static void trackAdvancement(AdvancementEntry advancement) {
-    trackAdvancement(advancement, true);
+    trackedAdvancements.trackAdvancement(advancement, true);
   }
 
-  public static void trackAdvancement(AdvancementEntry advancement, boolean autosave) {
-    if (advancement.getProgress().isDone()) {
-      log.warn("Advancement {} is already done, no need to track it.", advancement);
-      return;
-    }
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      if (trackedAdvancementEntry.getId() == advancement.getId()) {
-        log.warn("Advancement {} is already tracked.", advancement);
-        return;
-      }
-    }
-    log.info("Track Advancement {}", advancement);
-    trackedAdvancements.add(advancement);
-    if (autosave) {
-      saveTrackedAdvancements();
-    }
-    updateTrackerWidget();
+  public static void toggleTrackedAdvancements(AdvancementEntry rootAdvancement) {
+    trackedAdvancements.toggleTrackedAdvancements(
+        rootAdvancement, AdvancementsManager.getAdvancements(rootAdvancement));
   }
 
-  private static void saveTrackedAdvancements() {
-    saveTrackedAdvancementsRemote();
-    saveTrackedAdvancementsLocal();
+  /** @return true, if the order could be changed manually and is not ordered by progress. */
+  public static boolean canMoveTrackedAdvancements() {
+    return trackedAdvancements.canMoveTrackedAdvancements();
   }
 
-  private static void saveTrackedAdvancementsRemote() {
-    if (serverId == null) {
-      return;
-    }
-    List<String> trackedAdvancementsToSave = new ArrayList<>();
-    // Adding existing entries, but ignore entries for current server.
-    for (String trackedAdvancementRemote : trackedAdvancementsRemote) {
-      if (!trackedAdvancementRemote.isEmpty()
-          && !trackedAdvancementRemote.isEmpty()
-          && !trackedAdvancementRemote.startsWith(serverId)) {
-        trackedAdvancementsToSave.add(trackedAdvancementRemote);
-      }
-    }
-    // Adding entries for current server.
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      trackedAdvancementsToSave.add(serverId + trackedAdvancementEntry.getIdString());
-    }
-    ClientConfig.CLIENT.trackedAdvancementsRemote.set(
-        trackedAdvancementsToSave.stream().distinct().collect(Collectors.toList()));
-    trackedAdvancementsRemote = ClientConfig.CLIENT.trackedAdvancementsRemote.get();
-    ClientConfig.CLIENT.trackedAdvancements.save();
+  public static void togglePinnedAdvancement(AdvancementEntry advancement) {
+    trackedAdvancements.togglePinnedAdvancement(advancement);
   }
 
-  private static void saveTrackedAdvancementsLocal() {
-    if (serverId != null) {
-      return;
-    }
-    List<String> trackedAdvancementsToSave = new ArrayList<>();
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      trackedAdvancementsToSave.add(trackedAdvancementEntry.getIdString());
-    }
-    ClientConfig.CLIENT.trackedAdvancementsLocal.set(
-        trackedAdvancementsToSave.stream().distinct().collect(Collectors.toList()));
-    trackedAdvancementsLocal = ClientConfig.CLIENT.trackedAdvancementsLocal.get();
-    ClientConfig.CLIENT.trackedAdvancements.save();
+  public static void moveTrackedAdvancementUp(AdvancementEntry advancement) {
+    trackedAdvancements.moveTrackedAdvancementUp(advancement);
+  }
+
+  public static void moveTrackedAdvancementDown(AdvancementEntry advancement) {
+    trackedAdvancements.moveTrackedAdvancementDown(advancement);
   }
 
   public static void untrackAdvancement(Advancement advancement) {
@@ -223,61 +144,53 @@ public class TrackedAdvancementsManager {
   }
 
   public static void untrackAdvancement(AdvancementEntry advancement) {
-    untrackAdvancement(advancement.getId());
+    trackedAdvancements.untrackAdvancement(advancement.getIdString());
   }
 
   public static void untrackAdvancement(ResourceLocation advancementId) {
-    AdvancementEntry existingAdvancementEntry = null;
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      if (trackedAdvancementEntry.getId() == advancementId) {
-        existingAdvancementEntry = trackedAdvancementEntry;
-        break;
-      }
-    }
-    if (existingAdvancementEntry != null) {
-      trackedAdvancements.remove(existingAdvancementEntry);
-      saveTrackedAdvancements();
-      updateTrackerWidget();
-    }
+    trackedAdvancements.untrackAdvancement(advancementId.toString());
   }
 
   public static int numOfTrackedAdvancements() {
-    return trackedAdvancements.size();
+    return trackedAdvancements.numOfTrackedAdvancements();
   }
 
   public static boolean hasTrackedAdvancement(AdvancementEntry advancementEntry) {
-    ResourceLocation rootAdvancementId = advancementEntry.getId();
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      if (trackedAdvancementEntry.rootAdvancement != null
-          && trackedAdvancementEntry.rootAdvancement.getId() == rootAdvancementId) {
-        return true;
-      }
-    }
-    return false;
+    return trackedAdvancements.hasTrackedAdvancement(advancementEntry);
+  }
+
+  public static int numOfTrackedAdvancements(AdvancementEntry rootAdvancementEntry) {
+    return trackedAdvancements.numOfTrackedAdvancements(rootAdvancementEntry);
   }
 
   public static boolean hasTrackedAdvancements() {
-    return !trackedAdvancements.isEmpty();
+    return trackedAdvancements.hasTrackedAdvancements();
   }
 
   public static boolean isTrackedAdvancement(AdvancementEntry advancementEntry) {
-    return isTrackedAdvancement(advancementEntry.getAdvancement());
+    return trackedAdvancements.isTrackedAdvancement(advancementEntry);
   }
 
   public static boolean isTrackedAdvancement(Advancement advancement) {
-    for (AdvancementEntry trackedAdvancementEntry : trackedAdvancements) {
-      if (trackedAdvancementEntry.getId() == advancement.getId()) {
-        return true;
-      }
-    }
-    return false;
+    return isTrackedAdvancement(advancement.getId());
   }
 
-  public static Set<AdvancementEntry> getTrackedAdvancements() {
-    return trackedAdvancements;
+  public static boolean isTrackedAdvancement(ResourceLocation advancementId) {
+    return trackedAdvancements.isTrackedAdvancement(advancementId.toString());
+  }
+
+  public static boolean isTrackedAdvancement(String advancementId) {
+    return trackedAdvancements.isTrackedAdvancement(advancementId);
+  }
+
+  public static boolean isPinnedAdvancement(AdvancementEntry advancementEntry) {
+    return trackedAdvancements.isPinnedAdvancement(advancementEntry);
   }
 
-  private static void updateTrackerWidget() {
-    AdvancementsTrackerWidget.updateTrackedAdvancements();
+  /**
+   * @return stable ordered view of the tracked advancements, pinned advancements first.
+   */
+  public static List<AdvancementEntry> getTrackedAdvancements() {
+    return trackedAdvancements.getTrackedAdvancements();
   }
 }
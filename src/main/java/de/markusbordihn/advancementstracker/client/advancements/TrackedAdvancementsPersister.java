@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.Constants;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.GameShuttingDownEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+@EventBusSubscriber(Dist.CLIENT)
+public class TrackedAdvancementsPersister {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final long SAVE_DELAY = 2000;
+  private static final long MAX_SAVE_DELAY = 10000;
+  private static final long FLUSH_TIMEOUT = 5000;
+
+  private static final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, Constants.LOG_NAME + " Persister");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // Pending file content by path, a null content marks the file for deletion.
+  private static Map<Path, String> pendingContent = new LinkedHashMap<>();
+  private static ScheduledFuture<?> scheduledSave;
+  private static long firstPendingChangeTime;
+
+  protected TrackedAdvancementsPersister() {}
+
+  @SubscribeEvent
+  public static void handleLoggingOutEvent(ClientPlayerNetworkEvent.LoggingOut event) {
+    flush();
+  }
+
+  @SubscribeEvent
+  public static void handleGameShuttingDownEvent(GameShuttingDownEvent event) {
+    flush();
+  }
+
+  public static synchronized void save(Path path, String content) {
+    scheduleSave(path, content);
+  }
+
+  public static synchronized void delete(Path path) {
+    scheduleSave(path, null);
+  }
+
+  private static void scheduleSave(Path path, String content) {
+    long currentTime = System.currentTimeMillis();
+    if (pendingContent.isEmpty()) {
+      firstPendingChangeTime = currentTime;
+    }
+    // Only the latest content per file will be written.
+    pendingContent.put(path, content);
+
+    // Debounce consecutive changes into a single write, but never wait longer than the max. save
+    // delay after the first pending change, so that a steady stream of changes is still written.
+    if (scheduledSave != null) {
+      scheduledSave.cancel(false);
+    }
+    long saveDelay =
+        Math.max(0, Math.min(SAVE_DELAY, firstPendingChangeTime + MAX_SAVE_DELAY - currentTime));
+    scheduledSave =
+        executor.schedule(
+            TrackedAdvancementsPersister::writePendingContent, saveDelay, TimeUnit.MILLISECONDS);
+  }
+
+  public static void flush() {
+    ScheduledFuture<?> flushFuture;
+    synchronized (TrackedAdvancementsPersister.class) {
+      if (pendingContent.isEmpty()) {
+        return;
+      }
+      if (scheduledSave != null) {
+        scheduledSave.cancel(false);
+        scheduledSave = null;
+      }
+      flushFuture =
+          executor.schedule(
+              TrackedAdvancementsPersister::writePendingContent, 0, TimeUnit.MILLISECONDS);
+    }
+    try {
+      flushFuture.get(FLUSH_TIMEOUT, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException exception) {
+      log.error("Unable to flush tracked advancements:", exception);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void writePendingContent() {
+    Map<Path, String> contentToWrite;
+    synchronized (TrackedAdvancementsPersister.class) {
+      contentToWrite = pendingContent;
+      pendingContent = new LinkedHashMap<>();
+    }
+    for (Map.Entry<Path, String> entry : contentToWrite.entrySet()) {
+      Path path = entry.getKey();
+      try {
+        if (entry.getValue() == null) {
+          Files.deleteIfExists(path);
+          log.debug("Deleted tracked advancements file {}", path);
+        } else {
+          writeAtomic(path, entry.getValue());
+          log.debug("Saved tracked advancements to {}", path);
+        }
+      } catch (IOException exception) {
+        log.error("Unable to write tracked advancements file {}:", path, exception);
+      }
+    }
+  }
+
+  private static void writeAtomic(Path path, String content) throws IOException {
+    Files.createDirectories(path.getParent());
+    Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.writeString(temporaryPath, content, StandardCharsets.UTF_8);
+    try {
+      Files.move(
+          temporaryPath,
+          path,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException exception) {
+      Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
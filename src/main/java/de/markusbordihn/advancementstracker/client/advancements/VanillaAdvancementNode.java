@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNode;
+import net.minecraft.advancements.Advancement;
+import net.minecraft.advancements.DisplayInfo;
+
+/** Adapter for the advancements of the game. */
+public class VanillaAdvancementNode implements AdvancementNode {
+
+  private final Advancement advancement;
+
+  public VanillaAdvancementNode(Advancement advancement) {
+    this.advancement = advancement;
+  }
+
+  public Advancement getAdvancement() {
+    return this.advancement;
+  }
+
+  @Override
+  public String getId() {
+    return this.advancement.getId().toString();
+  }
+
+  @Override
+  public AdvancementNode getParent() {
+    Advancement parent = this.advancement.getParent();
+    return parent == null ? null : new VanillaAdvancementNode(parent);
+  }
+
+  @Override
+  public String getTitle() {
+    DisplayInfo displayInfo = this.advancement.getDisplay();
+    return displayInfo == null ? getId() : displayInfo.getTitle().getString();
+  }
+
+  @Override
+  public String getDescription() {
+    DisplayInfo displayInfo = this.advancement.getDisplay();
+    return displayInfo == null ? "" : displayInfo.getDescription().getString();
+  }
+
+  @Override
+  public String[][] getRequirements() {
+    return this.advancement.getRequirements();
+  }
+
+  @Override
+  public boolean hasDisplay() {
+    return this.advancement.getDisplay() != null;
+  }
+
+  @Override
+  public String getNamespace() {
+    return this.advancement.getId().getNamespace();
+  }
+}
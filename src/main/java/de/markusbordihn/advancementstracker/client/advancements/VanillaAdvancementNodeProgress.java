@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.advancements;
+
+import de.markusbordihn.advancementstracker.core.AdvancementNodeProgress;
+import java.util.Date;
+import net.minecraft.advancements.AdvancementProgress;
+import net.minecraft.advancements.CriterionProgress;
+
+/** Adapter for the advancement progress of the game. */
+public class VanillaAdvancementNodeProgress implements AdvancementNodeProgress {
+
+  private final AdvancementProgress advancementProgress;
+
+  public VanillaAdvancementNodeProgress(AdvancementProgress advancementProgress) {
+    this.advancementProgress = advancementProgress;
+  }
+
+  @Override
+  public boolean isDone() {
+    return this.advancementProgress.isDone();
+  }
+
+  @Override
+  public float getPercent() {
+    return this.advancementProgress.getPercent();
+  }
+
+  @Override
+  public Iterable<String> getCompletedCriteria() {
+    return this.advancementProgress.getCompletedCriteria();
+  }
+
+  @Override
+  public Iterable<String> getRemainingCriteria() {
+    return this.advancementProgress.getRemainingCriteria();
+  }
+
+  @Override
+  public Date getFirstProgressDate() {
+    return this.advancementProgress.getFirstProgressDate();
+  }
+
+  @Override
+  public Date getObtainedDate(String criterion) {
+    CriterionProgress criterionProgress = this.advancementProgress.getCriterion(criterion);
+    return criterionProgress != null && criterionProgress.isDone()
+        ? criterionProgress.getObtained()
+        : null;
+  }
+}
@@ -22,6 +22,8 @@ package de.markusbordihn.advancementstracker.client.gui;
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.gui.widget.AdvancementsTrackerWidget;
 import net.minecraft.client.Minecraft;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import org.apache.logging.log4j.LogManager;
@@ -43,4 +45,13 @@ public class ClientGui {
           MinecraftForge.EVENT_BUS.register(new AdvancementsTrackerWidget(minecraft));
         });
   }
+
+  public static void registerClientReloadListeners(RegisterClientReloadListenersEvent event) {
+    log.info("{} Client reload listeners ...", Constants.LOG_REGISTER_PREFIX);
+
+    // Cached layouts depend on the font and language and needs to be re-calculated.
+    event.registerReloadListener(
+        (ResourceManagerReloadListener)
+            resourceManager -> AdvancementsTrackerWidget.invalidateLayout());
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.components;
+
+import de.markusbordihn.advancementstracker.core.AdvancementEntryProgress;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+
+/** Single criterion of an advancement, displayed as icon inside the criteria grid. */
+public class CriterionIcon {
+
+  private final AdvancementEntryProgress progress;
+  private final String criterion;
+  private final ItemStack icon;
+  private final boolean done;
+  private Component name;
+
+  public CriterionIcon(
+      AdvancementEntryProgress progress, String criterion, ItemStack icon, boolean done) {
+    this.progress = progress;
+    this.criterion = criterion;
+    this.icon = icon;
+    this.done = done;
+  }
+
+  public ItemStack getIcon() {
+    return this.icon;
+  }
+
+  public boolean isDone() {
+    return this.done;
+  }
+
+  public Component getName() {
+    // The name is only needed for the hovered icon and is therefore translated on demand.
+    if (this.name == null) {
+      this.name =
+          Component.literal(
+              (this.done ? "✔ " : "❌ ") + this.progress.getHumanReadableName(this.criterion))
+              .withStyle(this.done ? ChatFormatting.GREEN : ChatFormatting.RED);
+    }
+    return this.name;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.components;
+
+import de.markusbordihn.advancementstracker.Constants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.SpawnEggItem;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.common.ForgeSpawnEggItem;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Resolves criteria names like "minecraft:zombie" or "cod" to item, block, spawn egg or biome
+ * icons. The results are cached, because the same criteria are resolved for every frame and
+ * every opened detail screen.
+ */
+@EventBusSubscriber(Dist.CLIENT)
+public class CriterionIconResolver {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final Map<String, ItemStack> iconCache = new HashMap<>();
+
+  protected CriterionIconResolver() {}
+
+  @SubscribeEvent
+  public static void handleLevelEventLoad(LevelEvent.Load event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    iconCache.clear();
+  }
+
+  /**
+   * @return icon for the criterion or {@link ItemStack#EMPTY}, if the criterion could not be
+   *     resolved.
+   */
+  public static ItemStack getIcon(String namespace, String criterion) {
+    return iconCache.computeIfAbsent(
+        namespace + "|" + criterion, key -> resolveIcon(namespace, criterion));
+  }
+
+  private static ItemStack resolveIcon(String namespace, String criterion) {
+    for (ResourceLocation id : getPossibleIds(namespace, criterion)) {
+      // Items and blocks
+      if (ForgeRegistries.ITEMS.containsKey(id)) {
+        Item item = ForgeRegistries.ITEMS.getValue(id);
+        if (item != null && item != Items.AIR) {
+          return new ItemStack(item);
+        }
+      }
+      if (ForgeRegistries.BLOCKS.containsKey(id)) {
+        Item item = ForgeRegistries.BLOCKS.getValue(id).asItem();
+        if (item != Items.AIR) {
+          return new ItemStack(item);
+        }
+      }
+
+      // Entities are represented by their spawn egg, if any.
+      if (ForgeRegistries.ENTITY_TYPES.containsKey(id)) {
+        EntityType<?> entityType = ForgeRegistries.ENTITY_TYPES.getValue(id);
+        SpawnEggItem spawnEggItem = ForgeSpawnEggItem.fromEntityType(entityType);
+        if (spawnEggItem != null) {
+          return new ItemStack(spawnEggItem);
+        }
+      }
+
+      // Biomes are data driven and only known with a loaded level.
+      if (isBiome(id)) {
+        return new ItemStack(Items.FILLED_MAP);
+      }
+    }
+    return ItemStack.EMPTY;
+  }
+
+  private static boolean isBiome(ResourceLocation id) {
+    Minecraft minecraft = Minecraft.getInstance();
+    return minecraft != null
+        && minecraft.level != null
+        && minecraft
+            .level
+            .registryAccess()
+            .registry(Registries.BIOME)
+            .map(registry -> registry.containsKey(id))
+            .orElse(false);
+  }
+
+  private static List<ResourceLocation> getPossibleIds(String namespace, String criterion) {
+    List<ResourceLocation> ids = new ArrayList<>();
+    if (criterion.contains(":")) {
+      addId(ids, criterion);
+    } else {
+      addId(ids, namespace + ":" + criterion);
+      if (!"minecraft".equals(namespace)) {
+        addId(ids, "minecraft:" + criterion);
+      }
+    }
+    return ids;
+  }
+
+  private static void addId(List<ResourceLocation> ids, String id) {
+    ResourceLocation resourceLocation = ResourceLocation.tryParse(id);
+    if (resourceLocation != null) {
+      ids.add(resourceLocation);
+    }
+  }
+}
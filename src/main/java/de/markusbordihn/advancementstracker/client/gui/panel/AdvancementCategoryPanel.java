@@ -24,10 +24,12 @@ import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
 import de.markusbordihn.advancementstracker.client.advancements.TrackedAdvancementsManager;
 import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen;
+import de.markusbordihn.advancementstracker.core.layout.LazyRowViewport;
 import java.util.List;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.ObjectSelectionList;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.FormattedText;
@@ -44,6 +46,9 @@ public class AdvancementCategoryPanel
   private final int listLeft;
   private final int listWidth;
 
+  private final LazyRowViewport viewport = new LazyRowViewport();
+  private final TexturedQuadBatch quadBatch = new TexturedQuadBatch();
+
   private AdvancementsTrackerScreen parent;
 
   public AdvancementCategoryPanel(
@@ -70,6 +75,9 @@ public class AdvancementCategoryPanel
     parent.buildRootAdvancementsList(
         this::addEntry, mod -> new RootAdvancementEntry(mod, this.parent));
 
+    // Prepare visible rows with the next render.
+    this.viewport.invalidate();
+
     // Pre-select first entry if we have nothing selected.
     if (this.getSelected() == null && parent.getSelectedRootAdvancement() != null) {
       this.refreshSelection();
@@ -96,6 +104,45 @@ public class AdvancementCategoryPanel
     }
   }
 
+  @Override
+  public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+    // Only prepare the rows inside the visible range.
+    this.viewport.update(this.children(), getScrollAmount(), this.itemHeight, this.y1 - this.y0);
+
+    super.render(guiGraphics, mouseX, mouseY, partialTick);
+  }
+
+  @Override
+  protected void renderList(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+    // Backgrounds of all visible rows are drawn first, with one draw call per texture.
+    RootAdvancementEntry hoveredEntry = this.getHovered();
+    int entryHeight = this.itemHeight - 4;
+    for (int index = Math.max(0, (int) (getScrollAmount() / this.itemHeight) - 1);
+        index < this.getItemCount() && this.getRowTop(index) <= this.y1;
+        index++) {
+      RootAdvancementEntry entry = this.getEntry(index);
+      entry.renderBackground(
+          guiGraphics,
+          this.getRowTop(index),
+          this.getRowWidth(),
+          entryHeight,
+          entry == hoveredEntry || this.isSelectedItem(index));
+    }
+    this.quadBatch.flush(guiGraphics);
+
+    // Rows are adding their textured quads to the batch, which is drawn after all rows.
+    super.renderList(guiGraphics, mouseX, mouseY, partialTick);
+    this.quadBatch.flush(guiGraphics);
+  }
+
+  public void restoreScrollAmount(double scrollAmount) {
+    this.setScrollAmount(scrollAmount);
+  }
+
+  public void setParent(AdvancementsTrackerScreen parent) {
+    this.parent = parent;
+  }
+
   @Override
   public boolean isMouseOver(double mouseX, double mouseY) {
     return !parent.showingAdvancementDetail()
@@ -115,13 +162,13 @@ public class AdvancementCategoryPanel
     return this.listWidth;
   }
 
-  public class RootAdvancementEntry extends ObjectSelectionList.Entry<RootAdvancementEntry> {
+  public class RootAdvancementEntry extends ObjectSelectionList.Entry<RootAdvancementEntry>
+      implements LazyRowViewport.LazyRow {
 
     private static final ResourceLocation miscTexture =
         new ResourceLocation(Constants.MOD_ID, "textures/gui/misc.png");
 
     private final AdvancementEntry advancementEntry;
-    private final AdvancementsTrackerScreen parent;
     private final Font font;
     private final int descriptionColor;
     private final int iconWidth;
@@ -131,6 +178,7 @@ public class AdvancementCategoryPanel
     private List<FormattedCharSequence> descriptionParts;
     private boolean isSelected = false;
     private boolean isMouseOvered = false;
+    private boolean isPrepared = false;
     private int maxFontWidth;
     private int titleWidth;
 
@@ -138,12 +186,20 @@ public class AdvancementCategoryPanel
       this.advancementEntry = advancementEntry;
       this.descriptionColor = advancementEntry.getDescriptionColor();
       this.font = parent.getFontRenderer();
-      this.parent = parent;
       this.titleColor = advancementEntry.getTitleColor();
 
-      // Do expensive pre-calculation for the render
       this.iconWidth = 14;
       this.maxFontWidth = listWidth - iconWidth - 4;
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return this.isPrepared;
+    }
+
+    @Override
+    public void prepare() {
+      // Do expensive pre-calculation for the render, only if the row is (nearly) visible.
       this.titleWidth =
           advancementEntry.getTitleWidth() > maxFontWidth ? maxFontWidth - 6 : maxFontWidth;
       this.titleParts =
@@ -152,6 +208,14 @@ public class AdvancementCategoryPanel
                   FormattedText.composite(
                       font.substrByWidth(advancementEntry.getTitle(), titleWidth)));
       this.descriptionParts = font.split(advancementEntry.getDescription(), maxFontWidth);
+      this.isPrepared = true;
+    }
+
+    @Override
+    public void release() {
+      this.titleParts = null;
+      this.descriptionParts = null;
+      this.isPrepared = false;
     }
 
     public AdvancementEntry getAdvancementEntry() {
@@ -159,17 +223,13 @@ public class AdvancementCategoryPanel
     }
 
     private void renderBackground(
-        GuiGraphics guiGraphics, int top, int entryWidth, int entryHeight) {
+        GuiGraphics guiGraphics, int top, int entryWidth, int entryHeight, boolean isHighlighted) {
       if (this.advancementEntry.getBackground() == null) {
         return;
       }
-      if (this.isSelected || this.isMouseOvered) {
-        RenderSystem.setShaderColor(0.5f, 0.5f, 0.5f, 1);
-      } else {
-        RenderSystem.setShaderColor(0.4f, 0.4f, 0.4f, 1);
-      }
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(
+      float color = isHighlighted ? 0.5f : 0.4f;
+      quadBatch.blit(
+          guiGraphics,
           this.advancementEntry.getBackground(),
           getLeft() + 1,
           top - 1,
@@ -178,8 +238,11 @@ public class AdvancementCategoryPanel
           entryWidth - 2,
           entryHeight + 2,
           16,
-          16);
-      guiGraphics.pose().popPose();
+          16,
+          color,
+          color,
+          color,
+          1f);
     }
 
     private void renderIcon(GuiGraphics guiGraphics, int top) {
@@ -194,8 +257,17 @@ public class AdvancementCategoryPanel
       if (TrackedAdvancementsManager.hasTrackedAdvancement(this.advancementEntry)) {
         guiGraphics.pose().pushPose();
         guiGraphics.pose().scale(0.5f, 0.5f, 0.5f);
-        guiGraphics.blit(
-            miscTexture, (left + entryWidth - 12) * 2, (top + 1) * 2, 81, 6, 16, 16, 256, 256);
+        quadBatch.blit(
+            guiGraphics,
+            miscTexture,
+            (left + entryWidth - 12) * 2,
+            (top + 1) * 2,
+            81,
+            6,
+            16,
+            16,
+            256,
+            256);
         guiGraphics.pose().popPose();
       }
     }
@@ -206,10 +278,19 @@ public class AdvancementCategoryPanel
       int leftPosition = getLeft();
       int rightPosition = leftPosition + entryWidth - 2;
       int bottomPosition = top + entryHeight;
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(
-          miscTexture, leftPosition, topPosition, 0, 0, entryWidth - 1, 1, entryWidth - 1, 256);
-      guiGraphics.blit(
+      quadBatch.blit(
+          guiGraphics,
+          miscTexture,
+          leftPosition,
+          topPosition,
+          0,
+          0,
+          entryWidth - 1,
+          1,
+          entryWidth - 1,
+          256);
+      quadBatch.blit(
+          guiGraphics,
           miscTexture,
           rightPosition,
           topPosition + 1,
@@ -219,7 +300,8 @@ public class AdvancementCategoryPanel
           entryHeight + 2,
           256,
           entryHeight);
-      guiGraphics.blit(
+      quadBatch.blit(
+          guiGraphics,
           miscTexture,
           leftPosition,
           bottomPosition,
@@ -229,9 +311,17 @@ public class AdvancementCategoryPanel
           1,
           entryWidth - 1,
           256);
-      guiGraphics.blit(
-          miscTexture, leftPosition, topPosition + 1, 0, 0, 1, entryHeight + 2, 256, entryHeight);
-      guiGraphics.pose().popPose();
+      quadBatch.blit(
+          guiGraphics,
+          miscTexture,
+          leftPosition,
+          topPosition + 1,
+          0,
+          0,
+          1,
+          entryHeight + 2,
+          256,
+          entryHeight);
     }
 
     @Override
@@ -252,6 +342,11 @@ public class AdvancementCategoryPanel
         boolean isFocused,
         float partialTick) {
 
+      // Rows outside the prepared range are prepared on demand.
+      if (!this.isPrepared) {
+        this.prepare();
+      }
+
       // Selection state
       this.isSelected = isSelectedItem(entryIdx);
 
@@ -261,8 +356,7 @@ public class AdvancementCategoryPanel
       // Positions
       int textPositionLeft = left + iconWidth;
 
-      // Background
-      this.renderBackground(guiGraphics, top, entryWidth, entryHeight);
+      // Background is rendered for all visible rows at once, see renderList.
 
       // Select and mouse over effects
       if (this.isSelected) {
@@ -328,6 +422,10 @@ public class AdvancementCategoryPanel
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
       if (button == 0) {
+        // Shift click will track all remaining or untrack all advancements of this category.
+        if (Screen.hasShiftDown()) {
+          TrackedAdvancementsManager.toggleTrackedAdvancements(this.advancementEntry);
+        }
         parent.setSelectedRootAdvancement(this);
         setSelected(this);
       }
@@ -22,6 +22,7 @@ package de.markusbordihn.advancementstracker.client.gui.panel;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.Tesselator;
 import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.client.gui.components.CriterionIcon;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -43,8 +44,14 @@ public class AdvancementInfoPanel extends ScrollPanel {
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
 
   private static final int PADDING = 6;
+  private static final int GRID_CELL_SIZE = 18;
+  private static final int DONE_TINT = 0x6000A000;
+  private static final int REMAINING_TINT = 0x60A00000;
 
   private List<FormattedCharSequence> lines = Collections.emptyList();
+  private List<CriterionIcon> criteriaIcons = Collections.emptyList();
+  private List<FormattedCharSequence> footerLines = Collections.emptyList();
+  private CriterionIcon hoveredCriterionIcon;
   private Font font;
 
   public AdvancementInfoPanel(Minecraft minecraft, int width, int height, int top, int left) {
@@ -52,38 +59,66 @@ public class AdvancementInfoPanel extends ScrollPanel {
     this.font = minecraft.font;
   }
 
-  public void setInfo(List<String> lines) {
-    this.lines = resizeContent(lines);
-  }
-
-  public void clearInfo() {
-    this.lines = Collections.emptyList();
-  }
-
-  private List<FormattedCharSequence> resizeContent(List<String> lines) {
+  public static List<FormattedCharSequence> splitLines(
+      Font font, List<String> lines, int maxTextLength) {
     List<FormattedCharSequence> result = new ArrayList<>();
+    if (maxTextLength < 0) {
+      return result;
+    }
     for (String line : lines) {
       if (line == null) {
         result.add(null);
         continue;
       }
       Component chat = ForgeHooks.newChatWithLinks(line, false);
-      int maxTextLength = this.width - 12;
-      if (maxTextLength >= 0) {
-        Style textStyle = Style.EMPTY;
-        if (line.startsWith("✔")) {
-          textStyle = Style.EMPTY.withColor(0x00FF00);
-        } else if (line.startsWith("❌")) {
-          textStyle = Style.EMPTY.withColor(0xFF0000);
-        }
-        result.addAll(
-            Language.getInstance()
-                .getVisualOrder(font.getSplitter().splitLines(chat, maxTextLength, textStyle)));
+      Style textStyle = Style.EMPTY;
+      if (line.startsWith("✔")) {
+        textStyle = Style.EMPTY.withColor(0x00FF00);
+      } else if (line.startsWith("❌")) {
+        textStyle = Style.EMPTY.withColor(0xFF0000);
       }
+      result.addAll(
+          Language.getInstance()
+              .getVisualOrder(font.getSplitter().splitLines(chat, maxTextLength, textStyle)));
     }
     return result;
   }
 
+  public static int getTextWidth(int width) {
+    return width - 12;
+  }
+
+  public void setInfo(List<String> lines) {
+    this.lines = splitLines(this.font, lines, getTextWidth(this.width));
+  }
+
+  public void setLines(List<FormattedCharSequence> lines) {
+    this.setContent(lines, Collections.emptyList(), Collections.emptyList());
+  }
+
+  public void setContent(
+      List<FormattedCharSequence> lines,
+      List<CriterionIcon> criteriaIcons,
+      List<FormattedCharSequence> footerLines) {
+    this.lines = lines;
+    this.criteriaIcons = criteriaIcons;
+    this.footerLines = footerLines;
+    this.hoveredCriterionIcon = null;
+  }
+
+  public void clearInfo() {
+    this.setLines(Collections.emptyList());
+  }
+
+  private int getGridColumns() {
+    return Math.max(1, getTextWidth(this.width) / GRID_CELL_SIZE);
+  }
+
+  private int getGridRows() {
+    int gridColumns = getGridColumns();
+    return (this.criteriaIcons.size() + gridColumns - 1) / gridColumns;
+  }
+
   @Override
   public NarrationPriority narrationPriority() {
     return NarrationPriority.NONE;
@@ -97,7 +132,8 @@ public class AdvancementInfoPanel extends ScrollPanel {
   @Override
   protected int getContentHeight() {
     int height = 5;
-    height += (lines.size() * font.lineHeight);
+    height += (lines.size() + footerLines.size()) * font.lineHeight;
+    height += getGridRows() * GRID_CELL_SIZE;
     if (height < this.bottom - this.top - 8) height = this.bottom - this.top - 8;
     return height;
   }
@@ -115,16 +151,90 @@ public class AdvancementInfoPanel extends ScrollPanel {
       Tesselator tess,
       int mouseX,
       int mouseY) {
+    this.hoveredCriterionIcon = null;
     guiGraphics.pose().pushPose();
     guiGraphics.pose().translate(0, 0, 201);
-    for (FormattedCharSequence line : lines) {
+
+    // Lines before and after the criteria grid
+    int gridTop = relativeY + lines.size() * font.lineHeight;
+    int footerTop = gridTop + getGridRows() * GRID_CELL_SIZE;
+    RenderSystem.enableBlend();
+    drawLines(guiGraphics, lines, relativeY);
+    drawLines(guiGraphics, footerLines, footerTop);
+    RenderSystem.disableBlend();
+
+    // Criteria grid
+    if (!criteriaIcons.isEmpty()) {
+      drawCriteriaGrid(guiGraphics, gridTop, mouseX, mouseY);
+    }
+    guiGraphics.pose().popPose();
+  }
+
+  private void drawLines(
+      GuiGraphics guiGraphics, List<FormattedCharSequence> textLines, int linesTop) {
+    // Only draw the lines inside the visible scroll window.
+    int lineHeight = font.lineHeight;
+    int firstLine = Math.max(0, (this.top - linesTop) / lineHeight);
+    int lastLine = Math.min(textLines.size(), (this.bottom - linesTop) / lineHeight + 1);
+    int lineTop = linesTop + firstLine * lineHeight;
+    for (int lineIndex = firstLine; lineIndex < lastLine; lineIndex++) {
+      FormattedCharSequence line = textLines.get(lineIndex);
       if (line != null) {
-        RenderSystem.enableBlend();
-        guiGraphics.drawString(this.font, line, left + PADDING, relativeY, 0xFFFFFF);
-        RenderSystem.disableBlend();
+        guiGraphics.drawString(this.font, line, left + PADDING, lineTop, 0xFFFFFF);
       }
-      relativeY += font.lineHeight;
+      lineTop += lineHeight;
+    }
+  }
+
+  private void drawCriteriaGrid(GuiGraphics guiGraphics, int gridTop, int mouseX, int mouseY) {
+    // Only draw the rows inside the visible scroll window.
+    int gridColumns = getGridColumns();
+    int firstRow = Math.max(0, (this.top - gridTop) / GRID_CELL_SIZE);
+    int lastRow = Math.min(getGridRows(), (this.bottom - gridTop) / GRID_CELL_SIZE + 1);
+    int gridLeft = left + PADDING;
+    boolean isMouseOverPanel = mouseY >= this.top && mouseY < this.bottom;
+
+    for (int row = firstRow; row < lastRow; row++) {
+      int cellTop = gridTop + row * GRID_CELL_SIZE;
+      int lastIndex = Math.min(criteriaIcons.size(), (row + 1) * gridColumns);
+      for (int index = row * gridColumns; index < lastIndex; index++) {
+        CriterionIcon criterionIcon = criteriaIcons.get(index);
+        int cellLeft = gridLeft + (index % gridColumns) * GRID_CELL_SIZE;
+
+        // Done / remaining tint
+        guiGraphics.fill(
+            cellLeft,
+            cellTop,
+            cellLeft + GRID_CELL_SIZE - 1,
+            cellTop + GRID_CELL_SIZE - 1,
+            criterionIcon.isDone() ? DONE_TINT : REMAINING_TINT);
+        if (criterionIcon.getIcon().isEmpty()) {
+          guiGraphics.drawString(this.font, "?", cellLeft + 6, cellTop + 5, 0xFFFFFF);
+        } else {
+          guiGraphics.renderItem(criterionIcon.getIcon(), cellLeft + 1, cellTop + 1);
+        }
+
+        if (isMouseOverPanel
+            && mouseX >= cellLeft
+            && mouseX < cellLeft + GRID_CELL_SIZE
+            && mouseY >= cellTop
+            && mouseY < cellTop + GRID_CELL_SIZE) {
+          this.hoveredCriterionIcon = criterionIcon;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+    super.render(guiGraphics, mouseX, mouseY, partialTick);
+
+    // Names of the criteria are only displayed for the hovered icon.
+    if (this.hoveredCriterionIcon != null) {
+      guiGraphics.pose().pushPose();
+      guiGraphics.pose().translate(0, 0, 201);
+      guiGraphics.renderTooltip(this.font, this.hoveredCriterionIcon.getName(), mouseX, mouseY);
+      guiGraphics.pose().popPose();
     }
-    guiGraphics.pose().popPose();
   }
 }
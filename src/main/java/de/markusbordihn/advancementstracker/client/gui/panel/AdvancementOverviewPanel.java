@@ -24,12 +24,19 @@ import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
 import de.markusbordihn.advancementstracker.client.advancements.TrackedAdvancementsManager;
 import de.markusbordihn.advancementstracker.client.gui.components.AdvancementTooltip;
+import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementDetailContent;
 import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen;
+import de.markusbordihn.advancementstracker.config.ClientConfig;
+import de.markusbordihn.advancementstracker.core.layout.LazyRowViewport;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.ObjectSelectionList;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.FormattedText;
@@ -46,6 +53,15 @@ public class AdvancementOverviewPanel
   private final int listLeft;
   private final int listWidth;
 
+  // Prepared rows by advancement id, which are reused as long as the advancement is unchanged.
+  private final Map<ResourceLocation, ChildAdvancementEntry> entryPool = new HashMap<>();
+  private final LazyRowViewport viewport = new LazyRowViewport();
+  private final TexturedQuadBatch quadBatch = new TexturedQuadBatch();
+
+  // Advancements of the current query, which could be filtered over several frames.
+  private List<AdvancementEntry> advancements = new ArrayList<>();
+  private int numberOfPopulatedAdvancements = 0;
+
   private AdvancementsTrackerScreen parent;
   private AdvancementTooltip advancementTooltip;
 
@@ -67,19 +83,68 @@ public class AdvancementOverviewPanel
   }
 
   public void refreshList() {
-    this.clearEntries();
+    // Query child advancements, at least for the visible rows and within the time budget.
+    boolean wasPopulating = isPopulating();
+    List<AdvancementEntry> newAdvancements =
+        parent.getChildAdvancements(this.getNumberOfVisibleRows(), getPopulationBudget());
+
+    if (!wasPopulating && !isPopulating() && newAdvancements.equals(this.advancements)) {
+      // Same list, so only replace the rows of changed advancements.
+      List<ChildAdvancementEntry> entries = this.children();
+      for (int index = 0; index < entries.size(); index++) {
+        ChildAdvancementEntry entry = entries.get(index);
+        if (!entry.isValid(this.advancements.get(index))) {
+          entries.set(index, getOrCreateEntry(this.advancements.get(index)));
+        }
+      }
+      this.advancements = newAdvancements;
+    } else {
+      // New list, which starts with the visible rows and is completed over the next frames, as
+      // long as the query is not finished.
+      this.advancements = newAdvancements;
+      this.numberOfPopulatedAdvancements = 0;
+      this.clearEntries();
+      populateEntries();
+
+      // Reset scroll bar
+      if (getScrollAmount() > 0) {
+        setScrollAmount(0);
+      }
+    }
 
-    // Build child advancements list.
-    parent.buildChildAdvancementsList(
-        this::addEntry, mod -> new ChildAdvancementEntry(mod, this.parent));
+    // Reset tooltip and prepare visible rows with the next render.
+    this.advancementTooltip = null;
+    this.viewport.invalidate();
+  }
 
-    // Reset scroll bar
-    if (getScrollAmount() > 0) {
-      setScrollAmount(0);
+  public boolean isPopulating() {
+    return !parent.hasAllChildAdvancements()
+        || this.numberOfPopulatedAdvancements < this.advancements.size();
+  }
+
+  private void populateEntries() {
+    // Rows are cheap, because the expensive parts are only prepared for the visible rows.
+    while (this.numberOfPopulatedAdvancements < this.advancements.size()) {
+      this.addEntry(
+          getOrCreateEntry(this.advancements.get(this.numberOfPopulatedAdvancements++)));
     }
+  }
 
-    // Reset tooltip
-    this.advancementTooltip = null;
+  private int getNumberOfVisibleRows() {
+    return (this.y1 - this.y0) / this.itemHeight + 2;
+  }
+
+  private static long getPopulationBudget() {
+    return ClientConfig.CLIENT.overviewPopulationBudget.get() * 1_000_000L;
+  }
+
+  private ChildAdvancementEntry getOrCreateEntry(AdvancementEntry advancementEntry) {
+    ChildAdvancementEntry entry = this.entryPool.get(advancementEntry.getId());
+    if (entry == null || !entry.isValid(advancementEntry)) {
+      entry = new ChildAdvancementEntry(advancementEntry, this.parent);
+      this.entryPool.put(advancementEntry.getId(), entry);
+    }
+    return entry;
   }
 
   public void setAdvancementTooltip(AdvancementTooltip advancementTooltip) {
@@ -88,14 +153,82 @@ public class AdvancementOverviewPanel
 
   @Override
   public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+    // Continue the query of large lists within the time budget.
+    if (isPopulating()) {
+      this.advancements = parent.getChildAdvancements(0, getPopulationBudget());
+      populateEntries();
+    }
+
+    // Only prepare the rows inside the visible range.
+    this.viewport.update(this.children(), getScrollAmount(), this.itemHeight, this.y1 - this.y0);
+
     super.render(guiGraphics, mouseX, mouseY, partialTick);
 
+    // Loading indicator, as long as not all advancements are populated.
+    if (isPopulating()) {
+      float scaleFactor = 0.75f;
+      Component text =
+          Component.translatable(
+              Constants.ADVANCEMENTS_SCREEN_PREFIX + "loading",
+              parent.getNumberOfCheckedChildAdvancements(),
+              parent.getNumberOfChildAdvancementsToCheck());
+      guiGraphics.pose().pushPose();
+      guiGraphics.pose().translate(0, 0, 200);
+      guiGraphics.pose().scale(scaleFactor, scaleFactor, scaleFactor);
+      guiGraphics.drawString(
+          this.minecraft.font,
+          text,
+          Math.round((this.x0 + 4) / scaleFactor),
+          Math.round((this.y1 - 10) / scaleFactor),
+          0xFFFF00);
+      guiGraphics.pose().popPose();
+    }
+
     // Render tool tips separate to make sure they are fully visible.
     if (this.advancementTooltip != null) {
       this.advancementTooltip = null;
     }
   }
 
+  @Override
+  protected void renderList(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+    // Backgrounds of all visible rows are drawn first, with one draw call per texture.
+    ChildAdvancementEntry hoveredEntry = this.getHovered();
+    int entryHeight = this.itemHeight - 4;
+    for (int index = Math.max(0, (int) (getScrollAmount() / this.itemHeight) - 1);
+        index < this.getItemCount() && this.getRowTop(index) <= this.y1;
+        index++) {
+      ChildAdvancementEntry entry = this.getEntry(index);
+      entry.renderBackground(
+          guiGraphics,
+          this.getRowTop(index),
+          this.getRowWidth(),
+          entryHeight,
+          entry == hoveredEntry);
+    }
+    this.quadBatch.flush(guiGraphics);
+
+    // Rows are adding their textured quads to the batch, which is drawn after all rows.
+    super.renderList(guiGraphics, mouseX, mouseY, partialTick);
+    this.quadBatch.flush(guiGraphics);
+  }
+
+  public void restoreScrollAmount(double scrollAmount) {
+    // Make sure that all rows up to the scroll position are populated.
+    if (scrollAmount > 0 && isPopulating()) {
+      this.advancements =
+          parent.getChildAdvancements(
+              (int) Math.ceil((scrollAmount + this.y1 - this.y0) / this.itemHeight),
+              getPopulationBudget());
+      populateEntries();
+    }
+    this.setScrollAmount(scrollAmount);
+  }
+
+  public void setParent(AdvancementsTrackerScreen parent) {
+    this.parent = parent;
+  }
+
   @Override
   public boolean isMouseOver(double mouseX, double mouseY) {
     return !parent.showingAdvancementDetail()
@@ -115,7 +248,8 @@ public class AdvancementOverviewPanel
     return this.listWidth;
   }
 
-  public class ChildAdvancementEntry extends ObjectSelectionList.Entry<ChildAdvancementEntry> {
+  public class ChildAdvancementEntry extends ObjectSelectionList.Entry<ChildAdvancementEntry>
+      implements LazyRowViewport.LazyRow {
 
     private static final ResourceLocation icons =
         new ResourceLocation("minecraft:textures/gui/icons.png");
@@ -123,19 +257,20 @@ public class AdvancementOverviewPanel
         new ResourceLocation(Constants.MOD_ID, "textures/gui/misc.png");
 
     private final AdvancementEntry advancementEntry;
-    private final AdvancementsTrackerScreen parent;
-    private final AdvancementTooltip advancementTooltip;
     private final Font font;
     private final boolean isDone;
     private final int completedCriteriaNumber;
     private final int descriptionColor;
     private final int iconWidth;
+    private final int progressVersion;
     private final int remainingCriteriaNumber;
     private final int titleColor;
 
+    private AdvancementTooltip advancementTooltip;
     private FormattedCharSequence titleParts;
     private List<FormattedCharSequence> descriptionParts;
     private boolean isMouseOvered = false;
+    private boolean isPrepared = false;
 
     // Cached positions and sizes
     private int maxFontWidth;
@@ -146,18 +281,27 @@ public class AdvancementOverviewPanel
 
     ChildAdvancementEntry(AdvancementEntry advancementEntry, AdvancementsTrackerScreen parent) {
       this.advancementEntry = advancementEntry;
-      this.advancementTooltip = new AdvancementTooltip(advancementEntry);
       this.completedCriteriaNumber = advancementEntry.getProgress().getCompletedCriteriaNumber();
       this.descriptionColor = advancementEntry.getDescriptionColor();
       this.font = parent.getFontRenderer();
       this.isDone = advancementEntry.getProgress().isDone();
-      this.parent = parent;
+      this.progressVersion = advancementEntry.getProgress().getVersion();
       this.remainingCriteriaNumber = advancementEntry.getProgress().getRemainingCriteriaNumber();
       this.titleColor = advancementEntry.getTitleColor();
 
-      // Do expensive pre-calculation for the render
       this.iconWidth = 18;
       this.maxFontWidth = listWidth - this.iconWidth - 4;
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return this.isPrepared;
+    }
+
+    @Override
+    public void prepare() {
+      // Do expensive pre-calculation for the render, only if the row is (nearly) visible.
+      this.advancementTooltip = new AdvancementTooltip(advancementEntry);
       this.titleWidth =
           font.width(advancementEntry.getTitle()) > this.maxFontWidth
               ? this.maxFontWidth - 6
@@ -168,24 +312,34 @@ public class AdvancementOverviewPanel
                   FormattedText.composite(
                       font.substrByWidth(advancementEntry.getTitle(), titleWidth)));
       this.descriptionParts = font.split(advancementEntry.getDescription(), this.maxFontWidth);
+      this.isPrepared = true;
+    }
+
+    @Override
+    public void release() {
+      this.advancementTooltip = null;
+      this.titleParts = null;
+      this.descriptionParts = null;
+      this.isPrepared = false;
     }
 
     public AdvancementEntry getAdvancementEntry() {
       return advancementEntry;
     }
 
+    public boolean isValid(AdvancementEntry advancementEntry) {
+      return this.advancementEntry == advancementEntry
+          && this.progressVersion == advancementEntry.getProgress().getVersion();
+    }
+
     private void renderBackground(
-        GuiGraphics guiGraphics, int top, int entryWidth, int entryHeight) {
+        GuiGraphics guiGraphics, int top, int entryWidth, int entryHeight, boolean isHovered) {
       if (this.advancementEntry.getBackground() == null) {
         return;
       }
-      if (this.isMouseOvered) {
-        RenderSystem.setShaderColor(0.6f, 0.6f, 0.6f, 1);
-      } else {
-        RenderSystem.setShaderColor(0.5f, 0.5f, 0.5f, 1);
-      }
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(
+      float color = isHovered ? 0.6f : 0.5f;
+      quadBatch.blit(
+          guiGraphics,
           this.advancementEntry.getBackground(),
           getLeft() + 1,
           top - 1,
@@ -194,8 +348,11 @@ public class AdvancementOverviewPanel
           entryWidth - 2,
           entryHeight + 1,
           16,
-          16);
-      guiGraphics.pose().popPose();
+          16,
+          color,
+          color,
+          color,
+          1f);
     }
 
     private void renderIcon(GuiGraphics guiGraphics, int top) {
@@ -218,7 +375,8 @@ public class AdvancementOverviewPanel
       if (this.advancementEntry.hasExperienceReward()) {
         guiGraphics.pose().pushPose();
         guiGraphics.pose().scale(scaling, scaling, scaling);
-        guiGraphics.blit(miscTexture, positionLeft, positionTop, 102, 7, 12, 15, 256, 256);
+        quadBatch.blit(
+            guiGraphics, miscTexture, positionLeft, positionTop, 102, 7, 12, 15, 256, 256);
         guiGraphics.pose().popPose();
         positionLeft -= 16;
       }
@@ -227,7 +385,8 @@ public class AdvancementOverviewPanel
       if (this.advancementEntry.hasLootReward()) {
         guiGraphics.pose().pushPose();
         guiGraphics.pose().scale(scaling, scaling, scaling);
-        guiGraphics.blit(miscTexture, positionLeft, positionTop, 137, 6, 14, 16, 256, 256);
+        quadBatch.blit(
+            guiGraphics, miscTexture, positionLeft, positionTop, 137, 6, 14, 16, 256, 256);
         guiGraphics.pose().popPose();
         positionLeft -= 16;
       }
@@ -236,7 +395,8 @@ public class AdvancementOverviewPanel
       if (this.advancementEntry.hasRecipesReward()) {
         guiGraphics.pose().pushPose();
         guiGraphics.pose().scale(scaling, scaling, scaling);
-        guiGraphics.blit(miscTexture, positionLeft, positionTop, 118, 6, 14, 16, 256, 256);
+        quadBatch.blit(
+            guiGraphics, miscTexture, positionLeft, positionTop, 118, 6, 14, 16, 256, 256);
         guiGraphics.pose().popPose();
         positionLeft -= 16;
       }
@@ -247,19 +407,25 @@ public class AdvancementOverviewPanel
       int progressPositionTop = top + 33;
 
       // Render empty bar.
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(
-          icons, progressPositionLeft, progressPositionTop, 0, 64, progressWidth, 5, 256, 256);
-      guiGraphics.pose().popPose();
+      quadBatch.blit(
+          guiGraphics,
+          icons,
+          progressPositionLeft,
+          progressPositionTop,
+          0,
+          64,
+          progressWidth,
+          5,
+          256,
+          256);
 
       // Render progress bar and numbers.
       if (this.remainingCriteriaNumber > 0 || this.isDone) {
         int progressTotal = this.completedCriteriaNumber + this.remainingCriteriaNumber;
         int progressDone = this.completedCriteriaNumber;
         RenderSystem.setShaderColor(1, 1, 1, 1);
-        RenderSystem.setShaderTexture(0, icons);
-        guiGraphics.pose().pushPose();
-        guiGraphics.blit(
+        quadBatch.blit(
+            guiGraphics,
             icons,
             progressPositionLeft,
             progressPositionTop,
@@ -269,7 +435,6 @@ public class AdvancementOverviewPanel
             5,
             256,
             256);
-        guiGraphics.pose().popPose();
 
         // Only render numbers if we have enough space.
         if (entryWidth > progressWidth + 42) {
@@ -296,10 +461,19 @@ public class AdvancementOverviewPanel
       int leftPosition = getLeft();
       int rightPosition = leftPosition + entryWidth - 2;
       int bottomPosition = top + entryHeight;
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(
-          miscTexture, leftPosition, topPosition, 0, 0, entryWidth - 1, 1, entryWidth - 1, 256);
-      guiGraphics.blit(
+      quadBatch.blit(
+          guiGraphics,
+          miscTexture,
+          leftPosition,
+          topPosition,
+          0,
+          0,
+          entryWidth - 1,
+          1,
+          entryWidth - 1,
+          256);
+      quadBatch.blit(
+          guiGraphics,
           miscTexture,
           rightPosition,
           topPosition + 1,
@@ -309,7 +483,8 @@ public class AdvancementOverviewPanel
           entryHeight + 2,
           256,
           entryHeight);
-      guiGraphics.blit(
+      quadBatch.blit(
+          guiGraphics,
           miscTexture,
           leftPosition,
           bottomPosition,
@@ -319,9 +494,17 @@ public class AdvancementOverviewPanel
           1,
           entryWidth - 1,
           256);
-      guiGraphics.blit(
-          miscTexture, leftPosition, topPosition + 1, 0, 0, 1, entryHeight + 2, 256, entryHeight);
-      guiGraphics.pose().popPose();
+      quadBatch.blit(
+          guiGraphics,
+          miscTexture,
+          leftPosition,
+          topPosition + 1,
+          0,
+          0,
+          1,
+          entryHeight + 2,
+          256,
+          entryHeight);
     }
 
     private void renderTrackingCheckbox(GuiGraphics guiGraphics, int top, int left) {
@@ -331,9 +514,8 @@ public class AdvancementOverviewPanel
       } else if (TrackedAdvancementsManager.isTrackedAdvancement(this.advancementEntry)) {
         iconPosition = 42;
       }
-      guiGraphics.pose().pushPose();
-      guiGraphics.blit(miscTexture, left + 2, top + 27, iconPosition, 6, 15, 15, 256, 256);
-      guiGraphics.pose().popPose();
+      quadBatch.blit(
+          guiGraphics, miscTexture, left + 2, top + 27, iconPosition, 6, 15, 15, 256, 256);
     }
 
     @Override
@@ -354,8 +536,20 @@ public class AdvancementOverviewPanel
         boolean isFocused,
         float partialTick) {
 
-      // Mouse over state
+      // Rows outside the prepared range are prepared on demand.
+      if (!this.isPrepared) {
+        this.prepare();
+      }
+
+      // Mouse over state, queue the detail content for a likely click, which is prepared from the
+      // client tick if the mouse stays over the row.
+      boolean wasMouseOvered = this.isMouseOvered;
       this.isMouseOvered = this.isMouseOver(mouseX, mouseY);
+      if (this.isMouseOvered && !wasMouseOvered) {
+        AdvancementDetailContent.prepareOnHover(this.advancementEntry);
+      } else if (!this.isMouseOvered && wasMouseOvered) {
+        AdvancementDetailContent.cancelPrepareOnHover(this.advancementEntry);
+      }
 
       // Positions
       int textPositionLeft = left + iconWidth;
@@ -364,8 +558,7 @@ public class AdvancementOverviewPanel
       this.relativeLeftPosition = left;
       this.relativeTopPosition = top;
 
-      // Background
-      this.renderBackground(guiGraphics, top, entryWidth, entryHeight);
+      // Background is rendered for all visible rows at once, see renderList.
 
       // Mouse over effects
       if (this.isMouseOvered) {
@@ -440,7 +633,12 @@ public class AdvancementOverviewPanel
         double relativeX = mouseX - this.relativeLeftPosition;
         double relativeY = mouseY - this.relativeTopPosition;
         if ((relativeX > 3 && relativeX < 15) && (relativeY > 27 && relativeY < 42)) {
-          TrackedAdvancementsManager.toggleTrackedAdvancement(this.getAdvancementEntry());
+          if (Screen.hasShiftDown()
+              && TrackedAdvancementsManager.isTrackedAdvancement(this.getAdvancementEntry())) {
+            TrackedAdvancementsManager.togglePinnedAdvancement(this.getAdvancementEntry());
+          } else {
+            TrackedAdvancementsManager.toggleTrackedAdvancement(this.getAdvancementEntry());
+          }
         } else {
           parent.setSelectedChildAdvancement(this);
           parent.showAdvancementDetail(true);
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.panel;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+
+/**
+ * Collects the textured quads of all visible rows and draws them with a single draw call per
+ * texture, instead of one draw call per blit. The quads are transformed with the current pose and
+ * tinted with the current shader color, when they are added.
+ */
+public class TexturedQuadBatch {
+
+  // Vertex layout: x, y, z, u, v, red, green, blue, alpha
+  private static final int VERTEX_SIZE = 9;
+  private static final int QUAD_SIZE = VERTEX_SIZE * 4;
+
+  private final Map<ResourceLocation, QuadBuffer> quadBuffers = new LinkedHashMap<>();
+  private final Vector4f position = new Vector4f();
+
+  public void blit(
+      GuiGraphics guiGraphics,
+      ResourceLocation texture,
+      int x,
+      int y,
+      float u,
+      float v,
+      int width,
+      int height,
+      int textureWidth,
+      int textureHeight) {
+    float[] shaderColor = RenderSystem.getShaderColor();
+    blit(
+        guiGraphics,
+        texture,
+        x,
+        y,
+        u,
+        v,
+        width,
+        height,
+        textureWidth,
+        textureHeight,
+        shaderColor[0],
+        shaderColor[1],
+        shaderColor[2],
+        shaderColor[3]);
+  }
+
+  public void blit(
+      GuiGraphics guiGraphics,
+      ResourceLocation texture,
+      int x,
+      int y,
+      float u,
+      float v,
+      int width,
+      int height,
+      int textureWidth,
+      int textureHeight,
+      float red,
+      float green,
+      float blue,
+      float alpha) {
+    float u0 = u / textureWidth;
+    float u1 = (u + width) / textureWidth;
+    float v0 = v / textureHeight;
+    float v1 = (v + height) / textureHeight;
+    Matrix4f matrix = guiGraphics.pose().last().pose();
+    QuadBuffer quadBuffer = this.quadBuffers.computeIfAbsent(texture, key -> new QuadBuffer());
+    quadBuffer.ensureCapacity();
+    addVertex(quadBuffer, matrix, x, y, u0, v0, red, green, blue, alpha);
+    addVertex(quadBuffer, matrix, x, y + height, u0, v1, red, green, blue, alpha);
+    addVertex(quadBuffer, matrix, x + width, y + height, u1, v1, red, green, blue, alpha);
+    addVertex(quadBuffer, matrix, x + width, y, u1, v0, red, green, blue, alpha);
+  }
+
+  /**
+   * @return number of issued draw calls.
+   */
+  public int flush(GuiGraphics guiGraphics) {
+    int drawCalls = 0;
+    float[] shaderColor = RenderSystem.getShaderColor().clone();
+    for (Map.Entry<ResourceLocation, QuadBuffer> entry : this.quadBuffers.entrySet()) {
+      QuadBuffer quadBuffer = entry.getValue();
+      if (quadBuffer.size == 0) {
+        continue;
+      }
+      if (drawCalls == 0) {
+        // Draw pending text and fills first, to keep the order of the render calls.
+        guiGraphics.flush();
+        RenderSystem.setShaderColor(1f, 1f, 1f, 1f);
+        RenderSystem.setShader(GameRenderer::getPositionColorTexShader);
+      }
+      RenderSystem.setShaderTexture(0, entry.getKey());
+      BufferBuilder bufferBuilder = Tesselator.getInstance().getBuilder();
+      bufferBuilder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR_TEX);
+      float[] data = quadBuffer.data;
+      for (int index = 0; index < quadBuffer.size; index += VERTEX_SIZE) {
+        bufferBuilder
+            .vertex(data[index], data[index + 1], data[index + 2])
+            .color(data[index + 5], data[index + 6], data[index + 7], data[index + 8])
+            .uv(data[index + 3], data[index + 4])
+            .endVertex();
+      }
+      BufferUploader.drawWithShader(bufferBuilder.end());
+      quadBuffer.size = 0;
+      drawCalls++;
+    }
+    if (drawCalls > 0) {
+      RenderSystem.setShaderColor(shaderColor[0], shaderColor[1], shaderColor[2], shaderColor[3]);
+    }
+    return drawCalls;
+  }
+
+  private void addVertex(
+      QuadBuffer quadBuffer,
+      Matrix4f matrix,
+      float x,
+      float y,
+      float u,
+      float v,
+      float red,
+      float green,
+      float blue,
+      float alpha) {
+    matrix.transform(this.position.set(x, y, 0, 1));
+    float[] data = quadBuffer.data;
+    int index = quadBuffer.size;
+    data[index] = this.position.x();
+    data[index + 1] = this.position.y();
+    data[index + 2] = this.position.z();
+    data[index + 3] = u;
+    data[index + 4] = v;
+    data[index + 5] = red;
+    data[index + 6] = green;
+    data[index + 7] = blue;
+    data[index + 8] = alpha;
+    quadBuffer.size += VERTEX_SIZE;
+  }
+
+  private static class QuadBuffer {
+    private float[] data = new float[QUAD_SIZE * 16];
+    private int size = 0;
+
+    private void ensureCapacity() {
+      if (this.size + QUAD_SIZE > this.data.length) {
+        this.data = Arrays.copyOf(this.data, this.data.length * 2);
+      }
+    }
+  }
+}
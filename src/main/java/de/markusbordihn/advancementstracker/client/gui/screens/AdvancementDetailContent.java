@@ -0,0 +1,282 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.screens;
+
+import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
+import de.markusbordihn.advancementstracker.client.gui.components.CriterionIcon;
+import de.markusbordihn.advancementstracker.client.gui.components.CriterionIconResolver;
+import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementInfoPanel;
+import de.markusbordihn.advancementstracker.config.ClientConfig;
+import de.markusbordihn.advancementstracker.core.AdvancementEntryProgress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.FormattedCharSequence;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Prepared content of the advancement detail screen. The translated and wrapped lines are cached
+ * per advancement, progress version, text width and language, so that the detail screen could be
+ * opened without preparing criteria heavy advancements again.
+ */
+@EventBusSubscriber(Dist.CLIENT)
+public class AdvancementDetailContent {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final ClientConfig.Config CLIENT = ClientConfig.CLIENT;
+
+  private static final int MAX_CACHED_CONTENTS = 64;
+  private static final int PREPARE_HOVER_DELAY_TICKS = 5;
+
+  private static final Map<ResourceLocation, AdvancementDetailContent> contentCache =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<ResourceLocation, AdvancementDetailContent> eldest) {
+          return size() > MAX_CACHED_CONTENTS;
+        }
+      };
+
+  // Hovered advancement, which is prepared if the mouse stays over it for the hover delay.
+  private static AdvancementEntry hoveredAdvancementEntry;
+  private static int hoveredTicks;
+
+  private final AdvancementEntry advancementEntry;
+  private final int progressVersion;
+  private final int textWidth;
+  private final String language;
+  private final int gridThreshold;
+  private final List<FormattedCharSequence> lines;
+  private final List<CriterionIcon> criteriaIcons;
+  private final List<FormattedCharSequence> footerLines;
+
+  private AdvancementDetailContent(
+      AdvancementEntry advancementEntry,
+      Font font,
+      int textWidth,
+      String language,
+      int gridThreshold) {
+    this.advancementEntry = advancementEntry;
+    this.progressVersion = advancementEntry.getProgress().getVersion();
+    this.textWidth = textWidth;
+    this.language = language;
+    this.gridThreshold = gridThreshold;
+    this.criteriaIcons =
+        Collections.unmodifiableList(prepareCriteriaIcons(advancementEntry, gridThreshold));
+    List<String> info = prepareInfoContent(advancementEntry, !this.criteriaIcons.isEmpty());
+    this.lines =
+        Collections.unmodifiableList(AdvancementInfoPanel.splitLines(font, info, textWidth));
+    this.footerLines =
+        Collections.unmodifiableList(
+            AdvancementInfoPanel.splitLines(
+                font, prepareRewardsContent(advancementEntry), textWidth));
+  }
+
+  @SubscribeEvent
+  public static void handleLevelEventLoad(LevelEvent.Load event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    contentCache.clear();
+    hoveredAdvancementEntry = null;
+  }
+
+  @SubscribeEvent
+  public static void handleClientTickEvent(TickEvent.ClientTickEvent event) {
+    if (event.phase != TickEvent.Phase.END || hoveredAdvancementEntry == null) {
+      return;
+    }
+
+    // Drop the hovered advancement, if the screen was closed without leaving the row.
+    Minecraft minecraft = Minecraft.getInstance();
+    if (minecraft == null || minecraft.screen == null) {
+      hoveredAdvancementEntry = null;
+      return;
+    }
+    if (++hoveredTicks >= PREPARE_HOVER_DELAY_TICKS) {
+      get(hoveredAdvancementEntry, minecraft.font, AdvancementDetailScreen.getInfoTextWidth());
+      hoveredAdvancementEntry = null;
+    }
+  }
+
+  /**
+   * Prepares the content for a likely click on the hovered advancement from the client tick, but
+   * only if the mouse stays over it for the hover delay.
+   */
+  public static void prepareOnHover(AdvancementEntry advancementEntry) {
+    if (advancementEntry != hoveredAdvancementEntry) {
+      hoveredAdvancementEntry = advancementEntry;
+      hoveredTicks = 0;
+    }
+  }
+
+  public static void cancelPrepareOnHover(AdvancementEntry advancementEntry) {
+    if (advancementEntry == hoveredAdvancementEntry) {
+      hoveredAdvancementEntry = null;
+    }
+  }
+
+  public static AdvancementDetailContent get(
+      AdvancementEntry advancementEntry, Font font, int textWidth) {
+    String language = Minecraft.getInstance().getLanguageManager().getSelected();
+    int gridThreshold = CLIENT.overviewCriteriaGridThreshold.get();
+    AdvancementDetailContent content = contentCache.get(advancementEntry.getId());
+    if (content == null
+        || !content.isValid(advancementEntry, textWidth, language, gridThreshold)) {
+      content =
+          new AdvancementDetailContent(
+              advancementEntry, font, textWidth, language, gridThreshold);
+      contentCache.put(advancementEntry.getId(), content);
+      log.debug(
+          "Prepared detail content for {} with {} lines and {} criteria icons",
+          advancementEntry,
+          content.lines.size() + content.footerLines.size(),
+          content.criteriaIcons.size());
+    }
+    return content;
+  }
+
+  private static List<CriterionIcon> prepareCriteriaIcons(
+      AdvancementEntry advancementEntry, int gridThreshold) {
+    AdvancementEntryProgress progress = advancementEntry.getProgress();
+    if (gridThreshold <= 0 || progress.getProgressTotal() < gridThreshold) {
+      return List.of();
+    }
+
+    // Use the grid only, if the majority of the criteria could be resolved to an icon.
+    List<CriterionIcon> criteriaIcons = new ArrayList<>(progress.getProgressTotal());
+    int resolvedIcons = 0;
+    for (String criterion : progress.getRemainingCriteria()) {
+      ItemStack icon = CriterionIconResolver.getIcon(progress.getNamespace(), criterion);
+      resolvedIcons += icon.isEmpty() ? 0 : 1;
+      criteriaIcons.add(new CriterionIcon(progress, criterion, icon, false));
+    }
+    for (String criterion : progress.getCompletedCriteria()) {
+      ItemStack icon = CriterionIconResolver.getIcon(progress.getNamespace(), criterion);
+      resolvedIcons += icon.isEmpty() ? 0 : 1;
+      criteriaIcons.add(new CriterionIcon(progress, criterion, icon, true));
+    }
+    return resolvedIcons * 2 >= criteriaIcons.size() ? criteriaIcons : List.of();
+  }
+
+  private static List<String> prepareInfoContent(
+      AdvancementEntry advancementEntry, boolean hasCriteriaIcons) {
+    AdvancementEntryProgress progress = advancementEntry.getProgress();
+    List<String> info = new ArrayList<>();
+
+    // Display description.
+    info.add(advancementEntry.getDescriptionString());
+
+    // Display criteria information, as text if they are not displayed as icon grid.
+    if (progress.getRemainingCriteriaNumber() > 0 || progress.getCompletedCriteriaNumber() > 0) {
+      info.add(" ");
+      info.add(
+          Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "criteria").getString());
+      if (hasCriteriaIcons) {
+        return info;
+      }
+      if (progress.getRemainingCriteriaNumber() > 0) {
+        for (String remainingCriteria : progress.getRemainingCriteriaHumanReadable()) {
+          info.add("❌ " + remainingCriteria);
+        }
+      }
+
+      if (progress.getCompletedCriteriaNumber() > 0) {
+        for (String completedCriteria : progress.getCompletedCriteriaHumanReadable()) {
+          info.add("✔ " + completedCriteria);
+        }
+      }
+    }
+
+    return info;
+  }
+
+  private static List<String> prepareRewardsContent(AdvancementEntry advancementEntry) {
+    List<String> info = new ArrayList<>();
+
+    // Display reward information.
+    if (advancementEntry.hasExperienceReward()
+        || advancementEntry.hasLootReward()
+        || advancementEntry.hasRecipesReward()) {
+      info.add(" ");
+      info.add(
+          Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "rewards").getString());
+
+      if (advancementEntry.hasExperienceReward()) {
+        info.add(
+            "+ "
+                + Component.translatable(
+                        Constants.ADVANCEMENTS_SCREEN_PREFIX + "experience",
+                        advancementEntry.getRewardsExperience())
+                    .getString());
+      }
+
+      if (advancementEntry.hasLootReward()) {
+        for (ResourceLocation loot : advancementEntry.getRewardsLoot()) {
+          info.add("+ " + loot.toString());
+        }
+      }
+
+      if (advancementEntry.hasRecipesReward()) {
+        for (ResourceLocation recipe : advancementEntry.getRewardsRecipes()) {
+          info.add("+ " + recipe.toString());
+        }
+      }
+    }
+
+    return info;
+  }
+
+  public List<FormattedCharSequence> getLines() {
+    return this.lines;
+  }
+
+  public List<CriterionIcon> getCriteriaIcons() {
+    return this.criteriaIcons;
+  }
+
+  public List<FormattedCharSequence> getFooterLines() {
+    return this.footerLines;
+  }
+
+  private boolean isValid(
+      AdvancementEntry advancementEntry, int textWidth, String language, int gridThreshold) {
+    return this.advancementEntry == advancementEntry
+        && this.progressVersion == advancementEntry.getProgress().getVersion()
+        && this.textWidth == textWidth
+        && this.language.equals(language)
+        && this.gridThreshold == gridThreshold;
+  }
+}
@@ -22,10 +22,7 @@ package de.markusbordihn.advancementstracker.client.gui.screens;
 import com.mojang.blaze3d.systems.RenderSystem;
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
-import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntryProgress;
 import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementInfoPanel;
-import java.util.ArrayList;
-import java.util.List;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
@@ -42,9 +39,9 @@ public class AdvancementDetailScreen extends Screen {
 
   private static final ResourceLocation windowBackground =
       new ResourceLocation("textures/gui/advancements/window.png");
+  private static final int WIDTH = 252;
 
   private AdvancementEntry advancementEntry;
-  private AdvancementEntryProgress progress;
   private AdvancementInfoPanel advancementInfoPanel;
 
   private int maxWidth;
@@ -55,80 +52,28 @@ public class AdvancementDetailScreen extends Screen {
   public AdvancementDetailScreen(AdvancementEntry advancementEntry) {
     this(advancementEntry.getTitle());
     this.advancementEntry = advancementEntry;
-    this.progress = advancementEntry.getProgress();
   }
 
   protected AdvancementDetailScreen(Component component) {
     super(component);
   }
 
-  private List<String> prepareInfoContent() {
-    List<String> info = new ArrayList<>();
-
-    // Display description.
-    info.add(advancementEntry.getDescriptionString());
-
-    // Display criteria information.
-    if (this.progress.getRemainingCriteriaNumber() > 0
-        || this.progress.getCompletedCriteriaNumber() > 0) {
-      info.add(" ");
-      info.add(
-          Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "criteria").getString());
-      if (this.progress.getRemainingCriteriaNumber() > 0) {
-        for (String remainingCriteria : this.progress.getRemainingCriteriaHumanReadable()) {
-          info.add("❌ " + remainingCriteria);
-        }
-      }
-
-      if (this.progress.getCompletedCriteriaNumber() > 0) {
-        for (String completedCriteria : this.progress.getCompletedCriteriaHumanReadable()) {
-          info.add("✔ " + completedCriteria);
-        }
-      }
-    }
-
-    // Display reward information.
-    if (this.advancementEntry.hasExperienceReward()
-        || this.advancementEntry.hasLootReward()
-        || this.advancementEntry.hasRecipesReward()) {
-      info.add(" ");
-      info.add(
-          Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "rewards").getString());
-
-      if (this.advancementEntry.hasExperienceReward()) {
-        info.add(
-            "+ "
-                + Component.translatable(
-                        Constants.ADVANCEMENTS_SCREEN_PREFIX + "experience",
-                        this.advancementEntry.getRewardsExperience())
-                    .getString());
-      }
-
-      if (this.advancementEntry.hasLootReward()) {
-        for (ResourceLocation loot : this.advancementEntry.getRewardsLoot()) {
-          info.add("+ " + loot.toString());
-        }
-      }
-
-      if (this.advancementEntry.hasRecipesReward()) {
-        for (ResourceLocation recipe : this.advancementEntry.getRewardsRecipes()) {
-          info.add("+ " + recipe.toString());
-        }
-      }
-    }
-
-    return info;
+  public static int getInfoTextWidth() {
+    return AdvancementInfoPanel.getTextWidth(WIDTH - 18);
   }
 
   @Override
   public void init() {
     maxHeight = Math.min(height - 30, 260);
-    maxWidth = 252;
+    maxWidth = WIDTH;
     left = (width - maxWidth) / 2;
     top = (height - maxHeight) / 2;
     this.advancementInfoPanel =
         new AdvancementInfoPanel(minecraft, maxWidth - 18, maxHeight - 38, top + 18, left + 3);
-    this.advancementInfoPanel.setInfo(prepareInfoContent());
+    AdvancementDetailContent content =
+        AdvancementDetailContent.get(this.advancementEntry, this.font, getInfoTextWidth());
+    this.advancementInfoPanel.setContent(
+        content.getLines(), content.getCriteriaIcons(), content.getFooterLines());
     this.addRenderableWidget(this.advancementInfoPanel);
   }
 
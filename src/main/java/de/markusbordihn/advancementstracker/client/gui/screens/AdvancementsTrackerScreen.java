@@ -22,17 +22,19 @@ package de.markusbordihn.advancementstracker.client.gui.screens;
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementsManager;
+import de.markusbordihn.advancementstracker.client.advancements.TrackedAdvancementsManager;
 import de.markusbordihn.advancementstracker.client.gui.components.SmallButton;
 import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementCategoryPanel;
 import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementOverviewPanel;
 import java.util.Comparator;
-import java.util.Set;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.components.ObjectSelectionList;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
@@ -54,23 +56,15 @@ public class AdvancementsTrackerScreen extends Screen {
   private static final int PADDING = 10;
   private static final int STATUS_BAR_HEIGHT = 11;
   private static final int SCROLLBAR_WIDTH = 6;
-  private static boolean showCompletedAdvancements = true;
-  private static boolean showOnlyRewardedAdvancements = false;
+  private static final int SEARCH_BOX_WIDTH = 100;
   private static Screen parentScreen = null;
-  Set<AdvancementEntry> rootAdvancements;
-  Set<AdvancementEntry> childAdvancements;
+  private final AdvancementsTrackerScreenModel model = AdvancementsTrackerScreenModel.getInstance();
   private int listWidth;
-  private CategorySortType sortType = CategorySortType.NORMAL;
-  private boolean sorted = false;
-  private AdvancementEntry selectedRootAdvancement = null;
-  private AdvancementEntry selectedChildAdvancement = null;
   private AdvancementCategoryPanel advancementCategoryPanel;
   private AdvancementOverviewPanel advancementOverviewPanel;
   private AdvancementDetailScreen showAdvancementDetailScreen;
   private boolean showAdvancementDetail = false;
-  private int numberOfCompletedAdvancements = 0;
-  private int numberOfRootAdvancements = 0;
-  private int numberOfTotalAdvancements = 0;
+  private EditBox searchBox;
   private int completedCheckboxX;
   private int onlyRewardedCheckboxX;
 
@@ -96,12 +90,12 @@ public class AdvancementsTrackerScreen extends Screen {
     }
   }
 
-  private static void toggleShowCompletedAdvancements() {
-    showCompletedAdvancements = !showCompletedAdvancements;
+  private void toggleShowCompletedAdvancements() {
+    this.model.showCompletedAdvancements = !this.model.showCompletedAdvancements;
   }
 
-  private static void toggleShowOnlyRewardedAdvancements() {
-    showOnlyRewardedAdvancements = !showOnlyRewardedAdvancements;
+  private void toggleShowOnlyRewardedAdvancements() {
+    this.model.showOnlyRewardedAdvancements = !this.model.showOnlyRewardedAdvancements;
   }
 
   public Minecraft getMinecraftInstance() {
@@ -114,83 +108,82 @@ public class AdvancementsTrackerScreen extends Screen {
 
   public <T extends ObjectSelectionList.Entry<T>> void buildRootAdvancementsList(
       Consumer<T> listViewConsumer, Function<AdvancementEntry, T> newEntry) {
-    if (this.rootAdvancements == null) {
-      this.reloadRootAdvancements();
+    for (AdvancementEntry advancementEntry :
+        this.model.viewPipeline.getRootAdvancements(this.model.sortType)) {
+      listViewConsumer.accept(newEntry.apply(advancementEntry));
     }
-    this.rootAdvancements.forEach(
-        advancementEntry -> listViewConsumer.accept(newEntry.apply(advancementEntry)));
   }
 
   public void reloadRootAdvancements() {
-    this.reloadRootAdvancements(CategorySortType.NORMAL);
-  }
-
-  public void reloadRootAdvancements(CategorySortType sortType) {
-    if (sortType == CategorySortType.NORMAL) {
-      this.rootAdvancements = AdvancementsManager.getRootAdvancements();
-    } else {
-      this.rootAdvancements = AdvancementsManager.getSortedRootAdvancements(sortType);
-    }
     if (this.advancementCategoryPanel != null) {
       this.advancementCategoryPanel.refreshList();
     }
   }
 
+  private void updateSearchTerm(String searchTerm) {
+    String newSearchTerm = StringUtils.toLowerCase(searchTerm.trim());
+    if (!newSearchTerm.equals(this.model.searchTerm)) {
+      this.model.searchTerm = newSearchTerm;
+      this.reloadChildAdvancements();
+    }
+  }
+
   private void resortRootAdvancements(CategorySortType newSort) {
-    this.sortType = newSort;
+    this.model.sortType = newSort;
 
     for (CategorySortType sort : CategorySortType.values()) {
-      if (sort.button != null) sort.button.active = sortType != sort;
+      if (sort.button != null) sort.button.active = this.model.sortType != sort;
     }
-    sorted = false;
+    this.model.sorted = false;
   }
 
   public AdvancementEntry getSelectedRootAdvancement() {
-    return this.selectedRootAdvancement;
+    return this.model.selectedRootAdvancement;
   }
 
   public void setSelectedRootAdvancement(AdvancementCategoryPanel.RootAdvancementEntry entry) {
     AdvancementEntry advancementEntry = entry.getAdvancementEntry();
-    if (advancementEntry == null || this.selectedRootAdvancement == advancementEntry) {
+    if (advancementEntry == null || this.model.selectedRootAdvancement == advancementEntry) {
       return;
     }
-    this.selectedRootAdvancement = advancementEntry;
-    log.debug("Selected root entry {}", this.selectedRootAdvancement);
+    this.model.selectedRootAdvancement = advancementEntry;
+    log.debug("Selected root entry {}", this.model.selectedRootAdvancement);
     this.reloadChildAdvancements();
-    this.numberOfCompletedAdvancements =
-        AdvancementsManager.getNumberOfCompletedAdvancements(this.selectedRootAdvancement);
-    this.numberOfTotalAdvancements =
-        AdvancementsManager.getNumberOfAdvancements(this.selectedRootAdvancement);
+    this.updateNumberOfAdvancements();
   }
 
   public <T extends ObjectSelectionList.Entry<T>> void buildChildAdvancementsList(
       Consumer<T> listViewConsumer, Function<AdvancementEntry, T> newEntry) {
-    if (this.childAdvancements == null) {
-      return;
+    this.collectChildAdvancements(
+        advancementEntry -> listViewConsumer.accept(newEntry.apply(advancementEntry)));
+  }
+
+  public void collectChildAdvancements(Consumer<AdvancementEntry> advancementConsumer) {
+    for (AdvancementEntry advancementEntry :
+        this.model.viewPipeline.getAdvancements(this.model.getViewQuery())) {
+      advancementConsumer.accept(advancementEntry);
     }
-    this.childAdvancements.forEach(
-        advancementEntry -> {
-          if ((showCompletedAdvancements || !advancementEntry.getProgress().isDone())
-              && (!showOnlyRewardedAdvancements || advancementEntry.hasRewards())) {
-            listViewConsumer.accept(newEntry.apply(advancementEntry));
-          }
-        });
   }
 
-  public void reloadChildAdvancements() {
-    this.reloadChildAdvancements(CategorySortType.NORMAL);
+  public List<AdvancementEntry> getChildAdvancements(
+      int minNumberOfAdvancements, long budgetNanos) {
+    return this.model.viewPipeline.getAdvancements(
+        this.model.getViewQuery(), minNumberOfAdvancements, budgetNanos);
   }
 
-  public void reloadChildAdvancements(CategorySortType sortType) {
-    if (this.selectedRootAdvancement == null) {
-      return;
-    }
-    if (sortType == CategorySortType.NORMAL) {
-      this.childAdvancements = AdvancementsManager.getAdvancements(this.selectedRootAdvancement);
-    } else {
-      this.childAdvancements =
-          AdvancementsManager.getSortedAdvancements(this.selectedRootAdvancement, sortType);
-    }
+  public boolean hasAllChildAdvancements() {
+    return this.model.viewPipeline.isComplete();
+  }
+
+  public int getNumberOfCheckedChildAdvancements() {
+    return this.model.viewPipeline.getNumberOfCheckedAdvancements();
+  }
+
+  public int getNumberOfChildAdvancementsToCheck() {
+    return this.model.viewPipeline.getNumberOfSourceAdvancements();
+  }
+
+  public void reloadChildAdvancements() {
     if (this.advancementOverviewPanel != null) {
       this.advancementOverviewPanel.refreshList();
     }
@@ -199,8 +192,8 @@ public class AdvancementsTrackerScreen extends Screen {
   public void showAdvancementDetail(boolean visible) {
     this.showAdvancementDetail = visible;
     this.showAdvancementDetailScreen =
-        visible && this.selectedChildAdvancement != null
-            ? new AdvancementDetailScreen(this.selectedChildAdvancement)
+        visible && this.model.selectedChildAdvancement != null
+            ? new AdvancementDetailScreen(this.model.selectedChildAdvancement)
             : null;
     if (this.showAdvancementDetailScreen != null) {
       this.showAdvancementDetailScreen.init(this.minecraft, width, height);
@@ -208,24 +201,25 @@ public class AdvancementsTrackerScreen extends Screen {
   }
 
   public AdvancementEntry getSelectedChildAdvancement() {
-    return this.selectedChildAdvancement;
+    return this.model.selectedChildAdvancement;
   }
 
   public void setSelectedChildAdvancement(AdvancementOverviewPanel.ChildAdvancementEntry entry) {
     AdvancementEntry advancementEntry = entry.getAdvancementEntry();
-    if (this.selectedChildAdvancement == advancementEntry) {
+    if (this.model.selectedChildAdvancement == advancementEntry) {
       return;
     }
-    this.selectedChildAdvancement = advancementEntry;
-    log.debug("Selected child entry {}", this.selectedChildAdvancement);
+    this.model.selectedChildAdvancement = advancementEntry;
+    log.debug("Selected child entry {}", this.model.selectedChildAdvancement);
   }
 
   private void renderNumberOfRootAdvancements(GuiGraphics guiGraphics) {
-    if (numberOfRootAdvancements > 0) {
+    if (this.model.numberOfRootAdvancements > 0) {
       float scaleFactor = 0.75f;
       Component text =
           Component.translatable(
-              Constants.ADVANCEMENTS_SCREEN_PREFIX + "numCategories", numberOfRootAdvancements);
+              Constants.ADVANCEMENTS_SCREEN_PREFIX + "numCategories",
+              this.model.numberOfRootAdvancements);
       guiGraphics.pose().pushPose();
       guiGraphics.pose().scale(scaleFactor, scaleFactor, scaleFactor);
       guiGraphics.drawString(
@@ -239,13 +233,13 @@ public class AdvancementsTrackerScreen extends Screen {
   }
 
   private void renderAdvancementsStats(GuiGraphics guiGraphics) {
-    if (this.numberOfTotalAdvancements > 0) {
+    if (this.model.numberOfTotalAdvancements > 0) {
       float scaleFactor = 0.75f;
       Component text =
           Component.translatable(
               Constants.ADVANCEMENTS_SCREEN_PREFIX + "numCompleted",
-              this.numberOfCompletedAdvancements,
-              this.numberOfTotalAdvancements);
+              this.model.numberOfCompletedAdvancements,
+              this.model.numberOfTotalAdvancements);
 
       guiGraphics.pose().pushPose();
       guiGraphics.pose().scale(scaleFactor, scaleFactor, scaleFactor);
@@ -268,7 +262,7 @@ public class AdvancementsTrackerScreen extends Screen {
         miscTexture,
         Math.round(this.completedCheckboxX / scaleFactorIcon),
         Math.round((this.height - 10) / scaleFactorIcon),
-        showCompletedAdvancements ? 42 : 22,
+        this.model.showCompletedAdvancements ? 42 : 22,
         6,
         15,
         15,
@@ -299,7 +293,7 @@ public class AdvancementsTrackerScreen extends Screen {
         miscTexture,
         Math.round(this.onlyRewardedCheckboxX / scaleFactorIcon),
         Math.round((this.height - 10) / scaleFactorIcon),
-        showOnlyRewardedAdvancements ? 42 : 22,
+        this.model.showOnlyRewardedAdvancements ? 42 : 22,
         6,
         15,
         15,
@@ -308,7 +302,7 @@ public class AdvancementsTrackerScreen extends Screen {
     guiGraphics.pose().popPose();
 
     float scaleFactorText = 0.75f;
-    int fontColor = showOnlyRewardedAdvancements ? 0xFF0000 : 0xFFFFFF;
+    int fontColor = this.model.showOnlyRewardedAdvancements ? 0xFF0000 : 0xFFFFFF;
     Component text =
         Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "showOnlyRewarded");
     guiGraphics.pose().pushPose();
@@ -324,7 +318,7 @@ public class AdvancementsTrackerScreen extends Screen {
 
   public boolean showingAdvancementDetail() {
     return this.showAdvancementDetail
-        && this.selectedChildAdvancement != null
+        && this.model.selectedChildAdvancement != null
         && this.showAdvancementDetailScreen != null;
   }
 
@@ -339,21 +333,32 @@ public class AdvancementsTrackerScreen extends Screen {
     // Panel Positions
     int categoryPanelLeftPosition = 0;
 
-    // Define scroll panels
-    this.advancementCategoryPanel =
-        new AdvancementCategoryPanel(
-            this,
-            this.listWidth,
-            topPosition,
-            categoryPanelLeftPosition,
-            height - STATUS_BAR_HEIGHT);
-    this.advancementOverviewPanel =
-        new AdvancementOverviewPanel(
-            this,
-            width - this.listWidth - (2 * SCROLLBAR_WIDTH) - 1,
-            topPosition,
-            this.advancementCategoryPanel.getWidth() + SCROLLBAR_WIDTH,
-            height - STATUS_BAR_HEIGHT);
+    // Re-use the already prepared panels of the session model, if the screen size is unchanged.
+    this.model.saveScrollAmounts();
+    boolean hasPreparedPanels = this.model.hasPanels(width, height);
+    if (hasPreparedPanels) {
+      this.advancementCategoryPanel = this.model.advancementCategoryPanel;
+      this.advancementOverviewPanel = this.model.advancementOverviewPanel;
+      this.advancementCategoryPanel.setParent(this);
+      this.advancementOverviewPanel.setParent(this);
+    } else {
+      this.advancementCategoryPanel =
+          new AdvancementCategoryPanel(
+              this,
+              this.listWidth,
+              topPosition,
+              categoryPanelLeftPosition,
+              height - STATUS_BAR_HEIGHT);
+      this.advancementOverviewPanel =
+          new AdvancementOverviewPanel(
+              this,
+              width - this.listWidth - (2 * SCROLLBAR_WIDTH) - 1,
+              topPosition,
+              this.advancementCategoryPanel.getWidth() + SCROLLBAR_WIDTH,
+              height - STATUS_BAR_HEIGHT);
+      this.model.setPanels(
+          this.advancementCategoryPanel, this.advancementOverviewPanel, width, height);
+    }
 
     // Add Scroll panels for advancements
     this.addRenderableWidget(this.advancementCategoryPanel);
@@ -392,13 +397,53 @@ public class AdvancementsTrackerScreen extends Screen {
             CategorySortType.Z_TO_A.getButtonText(),
             b -> resortRootAdvancements(CategorySortType.Z_TO_A));
     this.addRenderableWidget(CategorySortType.Z_TO_A.button);
-    reloadRootAdvancements();
+    for (CategorySortType sort : CategorySortType.values()) {
+      sort.button.active = this.model.sortType != sort;
+    }
 
-    // Sort Buttons for child Advancements
-    reloadChildAdvancements();
+    // Search box for the title and description of the advancements
+    this.searchBox =
+        new EditBox(
+            this.font,
+            width - SEARCH_BOX_WIDTH - PADDING,
+            4,
+            SEARCH_BOX_WIDTH,
+            12,
+            Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "search"));
+    this.searchBox.setMaxLength(50);
+    this.searchBox.setHint(
+        Component.translatable(Constants.ADVANCEMENTS_SCREEN_PREFIX + "search"));
+    this.searchBox.setValue(this.model.searchTerm);
+    this.searchBox.setResponder(this::updateSearchTerm);
+    this.addRenderableWidget(this.searchBox);
+
+    // Only reload the advancements, if they were changed or the panels are new.
+    if (!hasPreparedPanels || this.model.advancementsVersion != AdvancementsManager.getVersion()) {
+      reloadRootAdvancements();
+      reloadChildAdvancements();
+      this.advancementCategoryPanel.restoreScrollAmount(this.model.categoryScrollAmount);
+      this.advancementOverviewPanel.restoreScrollAmount(this.model.overviewScrollAmount);
+      updateNumberOfAdvancements();
+      this.model.sorted = true;
+      this.model.advancementsVersion = AdvancementsManager.getVersion();
+    }
+  }
 
-    // Cache specific numbers
-    this.numberOfRootAdvancements = AdvancementsManager.getNumberOfRootAdvancements();
+  private void updateNumberOfAdvancements() {
+    this.model.numberOfRootAdvancements = AdvancementsManager.getNumberOfRootAdvancements();
+    if (this.model.selectedRootAdvancement != null) {
+      this.model.numberOfCompletedAdvancements =
+          AdvancementsManager.getNumberOfCompletedAdvancements(this.model.selectedRootAdvancement);
+      this.model.numberOfTotalAdvancements =
+          AdvancementsManager.getNumberOfAdvancements(this.model.selectedRootAdvancement);
+    }
+  }
+
+  @Override
+  public void removed() {
+    // Keep the scroll positions for the next time the screen is opened.
+    this.model.saveScrollAmounts();
+    super.removed();
   }
 
   @Override
@@ -489,10 +534,10 @@ public class AdvancementsTrackerScreen extends Screen {
   @Override
   public void tick() {
 
-    if (!sorted) {
-      reloadRootAdvancements(sortType);
-      reloadChildAdvancements(sortType);
-      sorted = true;
+    if (!this.model.sorted) {
+      reloadRootAdvancements();
+      reloadChildAdvancements();
+      this.model.sorted = true;
     }
   }
 
@@ -501,6 +546,18 @@ public class AdvancementsTrackerScreen extends Screen {
     if (key1 == GLFW.GLFW_KEY_ESCAPE && this.showingAdvancementDetail()) {
       this.showAdvancementDetail(false);
       return false;
+    } else if ((key1 == GLFW.GLFW_KEY_UP || key1 == GLFW.GLFW_KEY_DOWN)
+        && Screen.hasAltDown()
+        && TrackedAdvancementsManager.canMoveTrackedAdvancements()
+        && this.model.selectedChildAdvancement != null
+        && TrackedAdvancementsManager.isTrackedAdvancement(this.model.selectedChildAdvancement)) {
+      // Move the selected tracked advancement within the tracked order.
+      if (key1 == GLFW.GLFW_KEY_UP) {
+        TrackedAdvancementsManager.moveTrackedAdvancementUp(this.model.selectedChildAdvancement);
+      } else {
+        TrackedAdvancementsManager.moveTrackedAdvancementDown(this.model.selectedChildAdvancement);
+      }
+      return true;
     } else {
       return super.keyPressed(key1, key2, key3);
     }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.screens;
+
+import de.markusbordihn.advancementstracker.Constants;
+import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
+import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementCategoryPanel;
+import de.markusbordihn.advancementstracker.client.gui.panel.AdvancementOverviewPanel;
+import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen.CategorySortType;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Session scoped state of the overview screen, which survives closing, re-opening and resizing of
+ * the screen. The state is reset with every new level.
+ */
+@EventBusSubscriber(Dist.CLIENT)
+public class AdvancementsTrackerScreenModel {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static AdvancementsTrackerScreenModel instance = new AdvancementsTrackerScreenModel();
+
+  // Selection, sorting and filters
+  AdvancementEntry selectedRootAdvancement = null;
+  AdvancementEntry selectedChildAdvancement = null;
+  CategorySortType sortType = CategorySortType.NORMAL;
+  boolean sorted = false;
+  boolean showCompletedAdvancements = true;
+  boolean showOnlyRewardedAdvancements = false;
+
+  String searchTerm = "";
+
+  // Memoized advancements and counters
+  final AdvancementsViewPipeline viewPipeline = new AdvancementsViewPipeline();
+  int numberOfCompletedAdvancements = 0;
+  int numberOfRootAdvancements = 0;
+  int numberOfTotalAdvancements = 0;
+  int advancementsVersion = -1;
+
+  // Panels with their prepared rows and scroll positions for the last screen size.
+  AdvancementCategoryPanel advancementCategoryPanel;
+  AdvancementOverviewPanel advancementOverviewPanel;
+  double categoryScrollAmount = 0;
+  double overviewScrollAmount = 0;
+  int screenWidth = -1;
+  int screenHeight = -1;
+
+  protected AdvancementsTrackerScreenModel() {}
+
+  @SubscribeEvent
+  public static void handleLevelEventLoad(LevelEvent.Load event) {
+    // Ignore server side worlds.
+    if (!event.getLevel().isClientSide()) {
+      return;
+    }
+    log.debug("Reset Advancements Tracker screen model ...");
+    instance = new AdvancementsTrackerScreenModel();
+  }
+
+  public static AdvancementsTrackerScreenModel getInstance() {
+    return instance;
+  }
+
+  AdvancementsViewQuery getViewQuery() {
+    return new AdvancementsViewQuery(
+        this.selectedRootAdvancement,
+        this.sortType,
+        this.showCompletedAdvancements,
+        this.showOnlyRewardedAdvancements,
+        this.searchTerm);
+  }
+
+  boolean hasPanels(int width, int height) {
+    return this.advancementCategoryPanel != null
+        && this.advancementOverviewPanel != null
+        && this.screenWidth == width
+        && this.screenHeight == height;
+  }
+
+  void setPanels(
+      AdvancementCategoryPanel advancementCategoryPanel,
+      AdvancementOverviewPanel advancementOverviewPanel,
+      int width,
+      int height) {
+    this.advancementCategoryPanel = advancementCategoryPanel;
+    this.advancementOverviewPanel = advancementOverviewPanel;
+    this.screenWidth = width;
+    this.screenHeight = height;
+  }
+
+  void saveScrollAmounts() {
+    if (this.advancementCategoryPanel != null) {
+      this.categoryScrollAmount = this.advancementCategoryPanel.getScrollAmount();
+    }
+    if (this.advancementOverviewPanel != null) {
+      this.overviewScrollAmount = this.advancementOverviewPanel.getScrollAmount();
+    }
+  }
+}
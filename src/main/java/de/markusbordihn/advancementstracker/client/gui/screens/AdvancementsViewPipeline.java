@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.screens;
+
+import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
+import de.markusbordihn.advancementstracker.client.advancements.AdvancementsManager;
+import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen.CategorySortType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Memoized query pipeline for the overview. Each stage (source, sort and filter) keeps its last
+ * result and is only executed again, if its own parameters or the advancements version changed.
+ * The filter stage could be split over several frames with a time budget.
+ */
+public class AdvancementsViewPipeline {
+
+  // Root advancements
+  private List<AdvancementEntry> rootAdvancements;
+  private CategorySortType rootSortType;
+  private int rootVersion = -1;
+
+  // Source and sort stage
+  private List<AdvancementEntry> sortedAdvancements;
+  private AdvancementEntry sortedRootAdvancement;
+  private CategorySortType sortedSortType;
+  private int sortedVersion = -1;
+
+  // Filter and search stage
+  private List<AdvancementEntry> filteredAdvancements;
+  private List<AdvancementEntry> filteredAdvancementsView;
+  private List<AdvancementEntry> filteredSource;
+  private AdvancementsViewQuery filteredQuery;
+  private int filteredPosition = 0;
+
+  public List<AdvancementEntry> getRootAdvancements(CategorySortType sortType) {
+    int version = AdvancementsManager.getVersion();
+    if (this.rootAdvancements == null
+        || this.rootSortType != sortType
+        || this.rootVersion != version) {
+      this.rootAdvancements =
+          Collections.unmodifiableList(
+              sort(new ArrayList<>(AdvancementsManager.getRootAdvancements()), sortType));
+      this.rootSortType = sortType;
+      this.rootVersion = version;
+    }
+    return this.rootAdvancements;
+  }
+
+  public List<AdvancementEntry> getAdvancements(AdvancementsViewQuery query) {
+    return getAdvancements(query, 0, 0);
+  }
+
+  /**
+   * Returns the (partial) advancements for the query. The filter stage is continued until all
+   * advancements are checked or at least the min. number of advancements are found and the time
+   * budget is used up, 0 = no time budget.
+   */
+  public List<AdvancementEntry> getAdvancements(
+      AdvancementsViewQuery query, int minNumberOfAdvancements, long budgetNanos) {
+    if (query.rootAdvancement() == null) {
+      this.filteredSource = null;
+      return List.of();
+    }
+
+    // Source and sort stage, only depends on the category, the sort type and the version.
+    int version = AdvancementsManager.getVersion();
+    if (this.sortedAdvancements == null
+        || this.sortedRootAdvancement != query.rootAdvancement()
+        || this.sortedSortType != query.sortType()
+        || this.sortedVersion != version) {
+      this.sortedAdvancements =
+          sort(
+              new ArrayList<>(AdvancementsManager.getAdvancements(query.rootAdvancement())),
+              query.sortType());
+      this.sortedRootAdvancement = query.rootAdvancement();
+      this.sortedSortType = query.sortType();
+      this.sortedVersion = version;
+    }
+
+    // Filter and search stage, only started again for a new source or changed filters.
+    if (this.filteredAdvancements == null
+        || this.filteredSource != this.sortedAdvancements
+        || !query.hasSameFilters(this.filteredQuery)) {
+      this.filteredAdvancements = new ArrayList<>();
+      this.filteredAdvancementsView = Collections.unmodifiableList(this.filteredAdvancements);
+      this.filteredSource = this.sortedAdvancements;
+      this.filteredQuery = query;
+      this.filteredPosition = 0;
+    }
+
+    // Continue the filter stage, the time is only checked for every 64 advancements.
+    long startTime = System.nanoTime();
+    while (this.filteredPosition < this.filteredSource.size()) {
+      AdvancementEntry advancementEntry = this.filteredSource.get(this.filteredPosition++);
+      if (this.filteredQuery.matches(advancementEntry)) {
+        this.filteredAdvancements.add(advancementEntry);
+      }
+      if (budgetNanos > 0
+          && (this.filteredPosition & 63) == 0
+          && this.filteredAdvancements.size() >= minNumberOfAdvancements
+          && System.nanoTime() - startTime >= budgetNanos) {
+        break;
+      }
+    }
+    return this.filteredAdvancementsView;
+  }
+
+  /** @return true, if all advancements of the last query are checked. */
+  public boolean isComplete() {
+    return this.filteredSource == null || this.filteredPosition >= this.filteredSource.size();
+  }
+
+  public int getNumberOfCheckedAdvancements() {
+    return this.filteredSource == null ? 0 : this.filteredPosition;
+  }
+
+  public int getNumberOfSourceAdvancements() {
+    return this.filteredSource == null ? 0 : this.filteredSource.size();
+  }
+
+  private static List<AdvancementEntry> sort(
+      List<AdvancementEntry> advancements, CategorySortType sortType) {
+    if (sortType != CategorySortType.NORMAL) {
+      advancements.sort(sortType);
+    }
+    return advancements;
+  }
+}
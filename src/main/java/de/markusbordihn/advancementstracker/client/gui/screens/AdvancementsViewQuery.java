@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.screens;
+
+import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
+import de.markusbordihn.advancementstracker.client.gui.screens.AdvancementsTrackerScreen.CategorySortType;
+
+/**
+ * Declarative query for the advancements shown in the overview.
+ *
+ * @param rootAdvancement selected category
+ * @param sortType sort order of the advancements
+ * @param showCompleted include completed advancements
+ * @param showOnlyRewarded only include advancements with rewards
+ * @param searchTerm lower case search term for the title and description, empty for all
+ */
+public record AdvancementsViewQuery(
+    AdvancementEntry rootAdvancement,
+    CategorySortType sortType,
+    boolean showCompleted,
+    boolean showOnlyRewarded,
+    String searchTerm) {
+
+  public boolean matches(AdvancementEntry advancementEntry) {
+    return (showCompleted || !advancementEntry.getProgress().isDone())
+        && (!showOnlyRewarded || advancementEntry.hasRewards())
+        && (searchTerm.isEmpty()
+            || advancementEntry.getLowerCaseTitle().contains(searchTerm)
+            || advancementEntry.getLowerCaseDescription().contains(searchTerm));
+  }
+
+  public boolean hasSameFilters(AdvancementsViewQuery query) {
+    return query != null
+        && this.showCompleted == query.showCompleted
+        && this.showOnlyRewarded == query.showOnlyRewarded
+        && this.searchTerm.equals(query.searchTerm);
+  }
+}
@@ -19,9 +19,7 @@
 
 package de.markusbordihn.advancementstracker.client.gui.widget;
 
-import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.platform.Lighting;
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import de.markusbordihn.advancementstracker.Constants;
 import de.markusbordihn.advancementstracker.client.advancements.AdvancementEntry;
@@ -29,32 +27,35 @@ import de.markusbordihn.advancementstracker.client.advancements.AdvancementsMana
 import de.markusbordihn.advancementstracker.client.advancements.TrackedAdvancementsManager;
 import de.markusbordihn.advancementstracker.client.keymapping.ModKeyMapping;
 import de.markusbordihn.advancementstracker.config.ClientConfig;
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import de.markusbordihn.advancementstracker.core.layout.TrackedAdvancementLayout;
+import de.markusbordihn.advancementstracker.utils.gui.FontTextMeasurer;
 import de.markusbordihn.advancementstracker.utils.gui.PositionManager;
 import de.markusbordihn.advancementstracker.utils.gui.PositionManager.BasePosition;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.ChatScreen;
-import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.client.renderer.texture.TextureAtlas;
-import net.minecraft.client.renderer.texture.TextureManager;
 import net.minecraft.client.resources.model.BakedModel;
-import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
-import net.minecraft.network.chat.FormattedText;
 import net.minecraft.network.chat.MutableComponent;
-import net.minecraft.util.FormattedCharSequence;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
+import net.minecraftforge.event.GameShuttingDownEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -70,6 +71,8 @@ public class AdvancementsTrackerWidget {
 
   // Pre-defined colors and placeholders
   private static final int BACKGROUND_COLOR = 0x70000000;
+  private static final float ICON_SCALE = 0.65f;
+  private static final int DEBUG_INTERVAL = 100;
 
   // Pre-defined texts
   private static final String HOT_KEY_ADVANCEMENT_TRACKER =
@@ -102,22 +105,41 @@ public class AdvancementsTrackerWidget {
           .withStyle(ChatFormatting.WHITE);
 
   private static PositionManager positionManager = new PositionManager();
-  private static Set<AdvancementEntry> trackedAdvancements;
+  private static List<AdvancementEntry> trackedAdvancements;
+  private static Map<String, TrackedAdvancementLayout> layoutCache = new HashMap<>();
   private static boolean hudVisible = true;
+  private static boolean layoutDirty = true;
+  private static boolean backgroundDirty = false;
+  private static boolean debugMode = false;
+
+  // Window offset for paging through the tracked advancements.
+  private static int scrollOffset = 0;
+  private static int pageSize = 1;
 
   private final Font font;
+  private final TextMeasurer textMeasurer;
   private final ItemRenderer itemRenderer;
   private final Minecraft minecraft;
-  private final TextureManager textureManager;
+  private final WidgetBackground background = new WidgetBackground(BACKGROUND_COLOR);
 
+  // Prepared layout, which is updated once per client tick or if marked as dirty.
+  private final List<PlacedAdvancement> placedAdvancements = new ArrayList<>();
+  private int ellipsisTop = -1;
+  private int numberOfTrackedAdvancements = 0;
   private int x;
   private int y;
 
+  // Debug stats to verify the number of draw calls.
+  private int debugDrawCalls = 0;
+  private int debugFrames = 0;
+  private int debugIcons = 0;
+  private int debugTicks = 0;
+
   public AdvancementsTrackerWidget(Minecraft minecraft) {
     this.font = minecraft.font;
+    this.textMeasurer = new FontTextMeasurer(minecraft.font);
     this.itemRenderer = minecraft.getItemRenderer();
     this.minecraft = minecraft;
-    this.textureManager = minecraft.getTextureManager();
     positionManager.setInstance(minecraft);
     positionManager.setWidth(120);
     positionManager.setHeight(0);
@@ -132,6 +154,7 @@ public class AdvancementsTrackerWidget {
     }
 
     updatePredefinedText();
+    debugMode = "debug".equalsIgnoreCase(CLIENT.logLevel.get());
     hudVisible = CLIENT.widgetEnabled.get() && CLIENT.widgetVisible.get();
     if (hudVisible) {
       log.info("Widget will be automatically visible on the start.");
@@ -159,6 +182,8 @@ public class AdvancementsTrackerWidget {
   }
 
   public static void reloadConfig() {
+    invalidateLayout();
+    debugMode = "debug".equalsIgnoreCase(CLIENT.logLevel.get());
     positionManager.setHeight(CLIENT.widgetHeight.get());
     positionManager.setWidth(CLIENT.widgetWidth.get());
     positionManager.setBasePosition(CLIENT.widgetPosition.get());
@@ -168,10 +193,38 @@ public class AdvancementsTrackerWidget {
 
   public static void updateTrackedAdvancements() {
     trackedAdvancements = TrackedAdvancementsManager.getTrackedAdvancements();
+    layoutCache.keySet().removeIf(id -> !TrackedAdvancementsManager.isTrackedAdvancement(id));
+    layoutDirty = true;
+  }
+
+  public static void invalidateLayout() {
+    layoutCache.clear();
+    layoutDirty = true;
+    backgroundDirty = true;
   }
 
   public static void toggleVisibility() {
     hudVisible = !hudVisible;
+    layoutDirty = true;
+  }
+
+  public static void pageUp() {
+    scrollTo(scrollOffset - pageSize);
+  }
+
+  public static void pageDown() {
+    if (trackedAdvancements != null && scrollOffset + pageSize < trackedAdvancements.size()) {
+      scrollTo(scrollOffset + pageSize);
+    }
+  }
+
+  private static void scrollTo(int offset) {
+    int maxOffset = trackedAdvancements != null ? trackedAdvancements.size() - 1 : 0;
+    int newScrollOffset = Math.max(0, Math.min(offset, maxOffset));
+    if (newScrollOffset != scrollOffset) {
+      scrollOffset = newScrollOffset;
+      layoutDirty = true;
+    }
   }
 
   private static void updatePredefinedText() {
@@ -199,6 +252,109 @@ public class AdvancementsTrackerWidget {
             .withStyle(ChatFormatting.WHITE);
   }
 
+  @SubscribeEvent
+  public void handleClientTickEvent(TickEvent.ClientTickEvent event) {
+    if (event.phase != TickEvent.Phase.END || !hudVisible) {
+      return;
+    }
+
+    // Layout changes like progress updates or window resizes are handled once per tick.
+    prepareLayout();
+
+    if (debugMode && ++debugTicks >= DEBUG_INTERVAL) {
+      log.info(
+          "Widget rendered {} icons with {} draw calls in {} frames.",
+          debugIcons,
+          debugDrawCalls,
+          debugFrames);
+      debugDrawCalls = 0;
+      debugFrames = 0;
+      debugIcons = 0;
+      debugTicks = 0;
+    }
+  }
+
+  @SubscribeEvent
+  public void handleLoggingOutEvent(ClientPlayerNetworkEvent.LoggingOut event) {
+    background.close();
+  }
+
+  @SubscribeEvent
+  public void handleGameShuttingDownEvent(GameShuttingDownEvent event) {
+    background.close();
+  }
+
+  private void prepareLayout() {
+    layoutDirty = false;
+
+    // Use Position Manager for Updates and update x and y reference.
+    positionManager.updateWindow();
+    x = positionManager.getPositionX();
+    y = positionManager.getPositionY();
+
+    // Place tracked advancements until the screen space is used.
+    placedAdvancements.clear();
+    ellipsisTop = -1;
+    numberOfTrackedAdvancements = 0;
+    if (trackedAdvancements != null && TrackedAdvancementsManager.hasTrackedAdvancements()) {
+      placeAdvancements();
+    }
+
+    // Collect the static background, which is only uploaded again if something has changed.
+    int right = positionManager.getPositionXWidth();
+    if (backgroundDirty) {
+      // Release the vertex buffer, because resource reloads could also re-create the GL context.
+      background.close();
+      backgroundDirty = false;
+    }
+    background.begin();
+    background.add(x, y, right, y + this.font.lineHeight + 2);
+    for (PlacedAdvancement placedAdvancement : placedAdvancements) {
+      int top = placedAdvancement.top();
+      background.add(x, top, right, top + placedAdvancement.layout().getBackgroundHeight());
+    }
+    if (ellipsisTop >= 0) {
+      background.add(x, ellipsisTop, right, ellipsisTop + this.font.lineHeight);
+    }
+    background.end();
+  }
+
+  private void placeAdvancements() {
+    // Make sure the window offset is still valid, if tracked advancements were removed.
+    numberOfTrackedAdvancements = trackedAdvancements.size();
+    if (scrollOffset >= numberOfTrackedAdvancements) {
+      scrollOffset = Math.max(0, numberOfTrackedAdvancements - pageSize);
+    }
+
+    // Only the visible slice, starting with the window offset, is placed.
+    int topPos = y + this.font.lineHeight + 4;
+    try {
+      for (int index = scrollOffset; index < numberOfTrackedAdvancements; index++) {
+        AdvancementEntry advancementEntry = trackedAdvancements.get(index);
+        // Check if the screen space is big enough to render all advancements.
+        if (topPos + (font.lineHeight * 4) < positionManager.getWindowHeightScaled()) {
+          TrackedAdvancementLayout layout = getLayout(advancementEntry);
+          placedAdvancements.add(new PlacedAdvancement(advancementEntry, layout, topPos));
+          topPos += layout.getHeight() + 2;
+        } else {
+          ellipsisTop = topPos;
+          break;
+        }
+      }
+      pageSize = Math.max(1, placedAdvancements.size());
+
+      // Show position, if not all advancements are visible.
+      if (ellipsisTop < 0 && scrollOffset > 0) {
+        ellipsisTop = topPos;
+      }
+    } catch (ConcurrentModificationException exception) {
+      log.debug("Advancement list was modified during layout. This is expected in some cases.");
+      placedAdvancements.clear();
+      ellipsisTop = -1;
+      layoutDirty = true;
+    }
+  }
+
   @SubscribeEvent()
   public void renderOverlay(RenderGuiOverlayEvent.Pre event) {
 
@@ -217,33 +373,35 @@ public class AdvancementsTrackerWidget {
       return;
     }
 
-    // Use Position Manager for Updates and update x and y reference.
-    positionManager.updateWindow();
-    x = positionManager.getPositionX();
-    y = positionManager.getPositionY();
+    // Only prepare the layout if needed, otherwise the prepared layout from the last tick is used.
+    if (layoutDirty) {
+      prepareLayout();
+    }
 
     // Get gui graphics and render buffer for additional effects.
     GuiGraphics guiGraphics = event.getGuiGraphics();
 
-    // Render background and title
-    renderTitle(guiGraphics);
+    // Render cached background with a single draw call.
+    int numberOfDrawCalls = background.render(guiGraphics);
 
-    // Render tracked advancement or additional hints, if needed.
+    // Render title and tracked advancement or additional hints, if needed.
     if (TrackedAdvancementsManager.hasTrackedAdvancements()) {
-      MultiBufferSource.BufferSource multiBufferSource =
-          Minecraft.getInstance().renderBuffers().bufferSource();
-      renderAdvancements(guiGraphics, multiBufferSource, x, y + this.font.lineHeight + 4);
+      numberOfDrawCalls += renderAdvancements(guiGraphics);
     } else if (AdvancementsManager.hasAdvancements()) {
+      renderTitle(guiGraphics);
       renderNoTrackedAdvancements(guiGraphics, x, y + this.font.lineHeight + 4);
     } else {
+      renderTitle(guiGraphics);
       renderNoAdvancements(guiGraphics, x, y + this.font.lineHeight + 4);
     }
+    if (debugMode) {
+      debugDrawCalls += numberOfDrawCalls;
+      debugFrames++;
+    }
   }
 
   private void renderTitle(GuiGraphics guiGraphics) {
     guiGraphics.pose().pushPose();
-    guiGraphics.fill(
-        x, y, positionManager.getPositionXWidth(), y + this.font.lineHeight + 2, BACKGROUND_COLOR);
     guiGraphics.drawString(
         this.font, ADVANCEMENT_TITLE_TEXT, x + 2, y + 2, Constants.FONT_COLOR_GRAY, false);
     guiGraphics.pose().popPose();
@@ -274,28 +432,85 @@ public class AdvancementsTrackerWidget {
     guiGraphics.pose().popPose();
   }
 
-  private void renderAdvancements(
-      GuiGraphics guiGraphics, MultiBufferSource.BufferSource multiBufferSource, int x, int y) {
+  private int renderAdvancements(GuiGraphics guiGraphics) {
     guiGraphics.pose().pushPose();
-    int topPos = y;
-    int numberOfAdvancementsRendered = 0;
-    try {
-      for (AdvancementEntry advancementEntry : trackedAdvancements) {
-        // Check if the screen space is big enough to render all advancements.
-        if (topPos + (font.lineHeight * 4) < positionManager.getWindowHeightScaled()) {
-          topPos +=
-              renderAdvancement(guiGraphics, multiBufferSource, x, topPos, advancementEntry) + 2;
-          numberOfAdvancementsRendered++;
-        } else {
-          renderAdvancementEllipsis(
-              guiGraphics, x, topPos, trackedAdvancements.size(), numberOfAdvancementsRendered);
-          break;
-        }
+
+    // Texts are collected and flushed at once.
+    guiGraphics.drawManaged(
+        () -> {
+          renderTitle(guiGraphics);
+          for (PlacedAdvancement placedAdvancement : placedAdvancements) {
+            renderAdvancement(
+                guiGraphics,
+                x,
+                placedAdvancement.top(),
+                placedAdvancement.advancementEntry(),
+                placedAdvancement.layout());
+          }
+          if (ellipsisTop >= 0) {
+            renderAdvancementEllipsis(
+                guiGraphics,
+                x,
+                ellipsisTop,
+                numberOfTrackedAdvancements,
+                scrollOffset + 1,
+                scrollOffset + placedAdvancements.size());
+          }
+        });
+
+    // Icons are rendered in a single batch per lighting type.
+    int numberOfDrawCalls = 1 + renderIcons(guiGraphics, true) + renderIcons(guiGraphics, false);
+    guiGraphics.pose().popPose();
+    return numberOfDrawCalls;
+  }
+
+  private int renderIcons(GuiGraphics guiGraphics, boolean flatLighting) {
+    int numberOfIcons = 0;
+    PoseStack poseStack = guiGraphics.pose();
+    for (PlacedAdvancement placedAdvancement : placedAdvancements) {
+      ItemStack icon = placedAdvancement.advancementEntry().getIcon();
+      if (icon == null || icon.isEmpty()) {
+        continue;
       }
-    } catch (ConcurrentModificationException exception) {
-      log.debug("Advancement list was modified during rendering. This is expected in some cases.");
+      BakedModel model = itemRenderer.getModel(icon, null, null, 0);
+      if (model.usesBlockLight() == flatLighting) {
+        continue;
+      }
+      TrackedAdvancementLayout layout = placedAdvancement.layout();
+      poseStack.pushPose();
+      poseStack.translate(
+          x + layout.getIconLeft() + 8.0F,
+          placedAdvancement.top() + layout.getIconTop() + 8.0F,
+          100.0F);
+      poseStack.scale(ICON_SCALE * 16.0F, -ICON_SCALE * 16.0F, ICON_SCALE * 16.0F);
+      itemRenderer.render(
+          icon,
+          ItemDisplayContext.GUI,
+          false,
+          poseStack,
+          guiGraphics.bufferSource(),
+          LightTexture.FULL_BRIGHT,
+          OverlayTexture.NO_OVERLAY,
+          model);
+      poseStack.popPose();
+      numberOfIcons++;
     }
-    guiGraphics.pose().popPose();
+    if (numberOfIcons == 0) {
+      return 0;
+    }
+
+    // Setup lighting and flush all icons at once.
+    if (flatLighting) {
+      Lighting.setupForFlatItems();
+    }
+    guiGraphics.flush();
+    if (flatLighting) {
+      Lighting.setupFor3DItems();
+    }
+    if (debugMode) {
+      debugIcons += numberOfIcons;
+    }
+    return 1;
   }
 
   private void renderAdvancementEllipsis(
@@ -303,20 +518,16 @@ public class AdvancementsTrackerWidget {
       int x,
       int y,
       int numberOfAdvancements,
-      int numberOfAdvancementsRendered) {
+      int firstAdvancementRendered,
+      int lastAdvancementRendered) {
 
-    // Background
-    guiGraphics.pose().pushPose();
-    guiGraphics.fill(
-        x, y, positionManager.getPositionXWidth(), y + font.lineHeight, BACKGROUND_COLOR);
-    guiGraphics.pose().popPose();
-
-    // Note that not all tracked advancements are visible.
+    // Note that not all tracked advancements are visible and which page is shown.
     float textScale = 0.75f;
     Component text =
         Component.translatable(
-            Constants.ADVANCEMENTS_WIDGET_PREFIX + "notAllVisible",
-            numberOfAdvancementsRendered,
+            Constants.ADVANCEMENTS_WIDGET_PREFIX + "visibleRange",
+            firstAdvancementRendered,
+            lastAdvancementRendered,
             numberOfAdvancements);
     guiGraphics.pose().pushPose();
     guiGraphics.pose().scale(textScale, textScale, textScale);
@@ -329,206 +540,90 @@ public class AdvancementsTrackerWidget {
     guiGraphics.pose().popPose();
   }
 
-  private int renderAdvancement(
+  private void renderAdvancement(
       GuiGraphics guiGraphics,
-      MultiBufferSource.BufferSource multiBufferSource,
       int x,
       int y,
-      AdvancementEntry advancementEntry) {
-
-    // Positions
-    int maxFontWidth = positionManager.getWidth() - 2;
-    int referenceTopPosition = y + 3;
-    int referenceLeftPosition = x + 2;
-
-    // Pre-calculations
-    float titleScale = 0.75f;
-    int titlePaddingLeft = 10;
-    int titlePaddingRight = advancementEntry.getProgress().getProgressTotal() > 1 ? 20 : 0;
-    int titleWidth =
-        advancementEntry.getTitleWidth() * titleScale
-                > maxFontWidth - titlePaddingLeft - titlePaddingRight
-            ? maxFontWidth - titlePaddingLeft - titlePaddingRight - Math.round(7 * titleScale)
-            : maxFontWidth - titlePaddingLeft - titlePaddingRight;
-    int titleWidthScaled = Math.round(titleWidth / titleScale);
-    FormattedCharSequence titleText =
-        Language.getInstance()
-            .getVisualOrder(
-                FormattedText.composite(
-                    font.substrByWidth(advancementEntry.getTitle(), titleWidthScaled)));
-
-    float descriptionScale = 0.75f;
-    List<FormattedCharSequence> descriptionParts =
-        font.split(
-            advancementEntry.getDescription(), Math.round(maxFontWidth / descriptionScale) - 3);
-    int descriptionLines = 1;
-
-    // Calculate expected content size
-    int expectedContentSize =
-        Math.round(
-            (font.lineHeight * titleScale + 3)
-                + ((font.lineHeight * descriptionScale + 3)
-                    * (Math.min(descriptionParts.size(), 3))));
-
-    // Background
-    guiGraphics.pose().pushPose();
-    guiGraphics.fill(
-        x, y, positionManager.getPositionXWidth(), y + expectedContentSize, BACKGROUND_COLOR);
-    guiGraphics.pose().popPose();
+      AdvancementEntry advancementEntry,
+      TrackedAdvancementLayout layout) {
 
     // Title (only one line)
+    float titleScale = TrackedAdvancementLayout.TITLE_SCALE;
+    int titleLeftPosition = x + layout.getTitleLeft();
+    int titleTopPosition = Math.round((y + layout.getTitleTop()) / titleScale);
     guiGraphics.pose().pushPose();
     guiGraphics.pose().scale(titleScale, titleScale, titleScale);
     guiGraphics.drawString(
         this.font,
-        titleText,
-        Math.round((referenceLeftPosition + titlePaddingLeft) / titleScale),
-        Math.round(referenceTopPosition / titleScale),
+        layout.getTitleText(),
+        Math.round(titleLeftPosition / titleScale),
+        titleTopPosition,
         Constants.FONT_COLOR_YELLOW);
 
     // Show ellipsis if title is to long.
-    if (titleWidth != maxFontWidth - titlePaddingLeft - titlePaddingRight) {
+    if (layout.hasTitleEllipsis()) {
       guiGraphics.drawString(
           this.font,
           Constants.ELLIPSIS,
-          Math.round(((referenceLeftPosition + titlePaddingLeft) / titleScale) + titleWidthScaled),
-          Math.round(referenceTopPosition / titleScale),
+          Math.round((titleLeftPosition / titleScale) + layout.getTitleWidthScaled()),
+          titleTopPosition,
           Constants.FONT_COLOR_YELLOW,
           false);
     }
     guiGraphics.pose().popPose();
 
     // Show Progress, if we have more than one requirements.
-    if (advancementEntry.getProgress().getProgressTotal() > 1) {
-      float progressScale = 0.6f;
-      int progressPositionLeft =
-          referenceLeftPosition
-              + maxFontWidth
-              - Math.round(advancementEntry.getProgress().getProgressStringWidth() * progressScale)
-              - 2;
+    if (layout.getProgressText() != null) {
+      float progressScale = TrackedAdvancementLayout.PROGRESS_SCALE;
       guiGraphics.pose().pushPose();
       guiGraphics.pose().scale(progressScale, progressScale, progressScale);
       guiGraphics.drawString(
           this.font,
-          advancementEntry.getProgress().getProgressString(),
-          Math.round(progressPositionLeft / progressScale),
-          Math.round((referenceTopPosition - 1) / progressScale),
+          layout.getProgressText(),
+          Math.round((x + layout.getProgressLeft()) / progressScale),
+          Math.round((y + layout.getProgressTop()) / progressScale),
           Constants.FONT_COLOR_YELLOW);
       guiGraphics.pose().popPose();
     }
-    referenceTopPosition += (int) (font.lineHeight * titleScale + 3);
-
-    // Icon
-    if (advancementEntry.getIcon() != null) {
-      guiGraphics.pose().pushPose();
-      renderGuiItem(
-          advancementEntry.getIcon(),
-          multiBufferSource,
-          referenceLeftPosition - 4,
-          referenceTopPosition - 14,
-          0.65f);
-      guiGraphics.pose().popPose();
-    }
 
     // Description (max three lines)
+    float descriptionScale = TrackedAdvancementLayout.DESCRIPTION_SCALE;
+    int descriptionLeftPosition = x + layout.getDescriptionLeft();
+    List<String> descriptionLines = layout.getDescriptionLines();
     guiGraphics.pose().pushPose();
     guiGraphics.pose().scale(descriptionScale, descriptionScale, descriptionScale);
-    for (FormattedCharSequence descriptionPart : descriptionParts) {
-      boolean shouldEnd = false;
+    for (int line = 0; line < descriptionLines.size(); line++) {
       guiGraphics.drawString(
           this.font,
-          descriptionPart,
-          Math.round(referenceLeftPosition / descriptionScale),
-          Math.round(referenceTopPosition / descriptionScale),
+          descriptionLines.get(line),
+          Math.round(descriptionLeftPosition / descriptionScale),
+          Math.round((y + layout.getDescriptionTop(line)) / descriptionScale),
           advancementEntry.getDescriptionColor());
-      if ((descriptionParts.size() >= 3 && descriptionLines == 3)) {
-        guiGraphics.drawString(
-            this.font,
-            Constants.ELLIPSIS,
-            Math.round(
-                (referenceLeftPosition / descriptionScale)
-                    + ((font.width(descriptionPart) / descriptionScale)
-                            < maxFontWidth / descriptionScale - 3
-                        ? (font.width(descriptionPart) / descriptionScale) - 7
-                        : (maxFontWidth / descriptionScale) - 7)),
-            Math.round(referenceTopPosition / descriptionScale),
-            0xFFFFFF,
-            false);
-        shouldEnd = true;
-      } else if (descriptionParts.size() == 2 && descriptionLines == 2) {
-        shouldEnd = true;
-      }
-      referenceTopPosition += (int) (font.lineHeight * descriptionScale + 3);
-      if (shouldEnd) {
-        break;
-      }
-      descriptionLines++;
+    }
+    if (layout.hasDescriptionEllipsis()) {
+      guiGraphics.drawString(
+          this.font,
+          Constants.ELLIPSIS,
+          Math.round(
+              (descriptionLeftPosition / descriptionScale) + layout.getDescriptionEllipsisOffset()),
+          Math.round(
+              (y + layout.getDescriptionTop(descriptionLines.size() - 1)) / descriptionScale),
+          0xFFFFFF,
+          false);
     }
     guiGraphics.pose().popPose();
-
-    // Return actual content position
-    return referenceTopPosition - y;
-  }
-
-  /**
-   * @deprecated
-   */
-  @Deprecated
-  private void renderGuiItem(
-      ItemStack itemStack,
-      MultiBufferSource.BufferSource multiBufferSource,
-      int x,
-      int y,
-      float scale) {
-    this.renderGuiItem(
-        itemStack, multiBufferSource, x, y, scale, itemRenderer.getModel(itemStack, null, null, 0));
   }
 
-  /**
-   * @deprecated
-   */
-  @Deprecated
-  private void renderGuiItem(
-      ItemStack itemStack,
-      MultiBufferSource.BufferSource multiBufferSource,
-      int x,
-      int y,
-      float scale,
-      BakedModel model) {
-    this.textureManager.getTexture(TextureAtlas.LOCATION_BLOCKS).setFilter(false, false);
-    RenderSystem.setShaderTexture(0, TextureAtlas.LOCATION_BLOCKS);
-    RenderSystem.enableBlend();
-    RenderSystem.blendFunc(
-        GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
-    RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
-    PoseStack modelPoseStack = RenderSystem.getModelViewStack();
-    modelPoseStack.pushPose();
-    modelPoseStack.translate(x, y, 100.0F);
-    modelPoseStack.translate(8.0D, 8.0D, 0.0D);
-    modelPoseStack.scale(scale, -scale, scale);
-    modelPoseStack.scale(16.0F, 16.0F, 16.0F);
-
-    RenderSystem.applyModelViewMatrix();
-    PoseStack modelPoseStack1 = new PoseStack();
-    boolean flag = !model.usesBlockLight();
-    if (flag) {
-      Lighting.setupForFlatItems();
+  private TrackedAdvancementLayout getLayout(AdvancementEntry advancementEntry) {
+    int width = positionManager.getWidth();
+    TrackedAdvancementLayout layout = layoutCache.get(advancementEntry.getIdString());
+    if (layout == null || !layout.isValid(advancementEntry, width)) {
+      layout = new TrackedAdvancementLayout(this.textMeasurer, advancementEntry, width);
+      layoutCache.put(advancementEntry.getIdString(), layout);
     }
-    itemRenderer.render(
-        itemStack,
-        ItemDisplayContext.GUI,
-        false,
-        modelPoseStack1,
-        multiBufferSource,
-        15728880,
-        OverlayTexture.NO_OVERLAY,
-        model);
-    multiBufferSource.endBatch();
-    RenderSystem.enableDepthTest();
-    if (flag) {
-      Lighting.setupFor3DItems();
-    }
-    modelPoseStack.popPose();
-    RenderSystem.applyModelViewMatrix();
+    return layout;
   }
+
+  private record PlacedAdvancement(
+      AdvancementEntry advancementEntry, TrackedAdvancementLayout layout, int top) {}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.client.gui.widget;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import java.util.Arrays;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+
+/**
+ * Static background quads of the widget, which are uploaded once into a vertex buffer and only
+ * rebuild if the placed rectangles are changing.
+ */
+public class WidgetBackground {
+
+  private final float alpha;
+  private final float blue;
+  private final float green;
+  private final float red;
+
+  // Uploaded and pending rectangles as x0, y0, x1, y1 tuples.
+  private int[] rectangles = new int[0];
+  private int[] pendingRectangles = new int[32];
+  private int pendingSize = 0;
+
+  private VertexBuffer vertexBuffer;
+  private boolean dirty = true;
+
+  public WidgetBackground(int color) {
+    this.alpha = (color >> 24 & 255) / 255.0F;
+    this.red = (color >> 16 & 255) / 255.0F;
+    this.green = (color >> 8 & 255) / 255.0F;
+    this.blue = (color & 255) / 255.0F;
+  }
+
+  public void begin() {
+    this.pendingSize = 0;
+  }
+
+  public void add(int x0, int y0, int x1, int y1) {
+    if (this.pendingSize + 4 > this.pendingRectangles.length) {
+      this.pendingRectangles =
+          Arrays.copyOf(this.pendingRectangles, this.pendingRectangles.length * 2);
+    }
+    this.pendingRectangles[this.pendingSize++] = Math.min(x0, x1);
+    this.pendingRectangles[this.pendingSize++] = Math.min(y0, y1);
+    this.pendingRectangles[this.pendingSize++] = Math.max(x0, x1);
+    this.pendingRectangles[this.pendingSize++] = Math.max(y0, y1);
+  }
+
+  public void end() {
+    // Only mark the geometry as dirty, if the rectangles are really changed.
+    if (!Arrays.equals(
+        this.rectangles, 0, this.rectangles.length, this.pendingRectangles, 0, this.pendingSize)) {
+      this.rectangles = Arrays.copyOf(this.pendingRectangles, this.pendingSize);
+      this.dirty = true;
+    }
+  }
+
+  public boolean isEmpty() {
+    return this.rectangles.length == 0;
+  }
+
+  public int render(GuiGraphics guiGraphics) {
+    if (isEmpty()) {
+      return 0;
+    }
+    if (this.dirty || this.vertexBuffer == null) {
+      upload();
+    }
+
+    RenderSystem.enableBlend();
+    RenderSystem.defaultBlendFunc();
+    this.vertexBuffer.bind();
+    this.vertexBuffer.drawWithShader(
+        guiGraphics.pose().last().pose(),
+        RenderSystem.getProjectionMatrix(),
+        GameRenderer.getPositionColorShader());
+    VertexBuffer.unbind();
+    RenderSystem.disableBlend();
+    return 1;
+  }
+
+  /** Releases the vertex buffer, which is created again with the next render call. */
+  public void close() {
+    if (this.vertexBuffer != null) {
+      this.vertexBuffer.close();
+      this.vertexBuffer = null;
+    }
+    this.dirty = true;
+  }
+
+  private void upload() {
+    BufferBuilder bufferBuilder = Tesselator.getInstance().getBuilder();
+    bufferBuilder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR);
+    for (int index = 0; index < this.rectangles.length; index += 4) {
+      int x0 = this.rectangles[index];
+      int y0 = this.rectangles[index + 1];
+      int x1 = this.rectangles[index + 2];
+      int y1 = this.rectangles[index + 3];
+      bufferBuilder.vertex(x0, y0, 0).color(red, green, blue, alpha).endVertex();
+      bufferBuilder.vertex(x0, y1, 0).color(red, green, blue, alpha).endVertex();
+      bufferBuilder.vertex(x1, y1, 0).color(red, green, blue, alpha).endVertex();
+      bufferBuilder.vertex(x1, y0, 0).color(red, green, blue, alpha).endVertex();
+    }
+    if (this.vertexBuffer == null) {
+      this.vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+    }
+    this.vertexBuffer.bind();
+    this.vertexBuffer.upload(bufferBuilder.end());
+    VertexBuffer.unbind();
+    this.dirty = false;
+  }
+}
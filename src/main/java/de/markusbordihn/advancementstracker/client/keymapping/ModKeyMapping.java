@@ -53,6 +53,20 @@ public class ModKeyMapping {
           KeyModifier.CONTROL,
           InputConstants.Type.KEYSYM.getOrCreate(GLFW.GLFW_KEY_L),
           Constants.KEY_PREFIX + "category");
+  public static final KeyMapping KEY_WIDGET_PAGE_UP =
+      new KeyMapping(
+          Constants.KEY_PREFIX + "widget_page_up",
+          KeyConflictContext.IN_GAME,
+          KeyModifier.ALT,
+          InputConstants.Type.KEYSYM.getOrCreate(GLFW.GLFW_KEY_PAGE_UP),
+          Constants.KEY_PREFIX + "category");
+  public static final KeyMapping KEY_WIDGET_PAGE_DOWN =
+      new KeyMapping(
+          Constants.KEY_PREFIX + "widget_page_down",
+          KeyConflictContext.IN_GAME,
+          KeyModifier.ALT,
+          InputConstants.Type.KEYSYM.getOrCreate(GLFW.GLFW_KEY_PAGE_DOWN),
+          Constants.KEY_PREFIX + "category");
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
   private static final ClientConfig.Config CLIENT = ClientConfig.CLIENT;
 
@@ -67,6 +81,14 @@ public class ModKeyMapping {
         && Boolean.TRUE.equals(CLIENT.overviewEnabled.get())) {
       log.debug("Show/hide Advancements Overview ...");
       AdvancementsTrackerScreen.toggleVisibility();
+    } else if (ModKeyMapping.KEY_WIDGET_PAGE_UP.consumeClick()
+        && Boolean.TRUE.equals(CLIENT.widgetEnabled.get())) {
+      log.debug("Page up Advancements Widget ...");
+      AdvancementsTrackerWidget.pageUp();
+    } else if (ModKeyMapping.KEY_WIDGET_PAGE_DOWN.consumeClick()
+        && Boolean.TRUE.equals(CLIENT.widgetEnabled.get())) {
+      log.debug("Page down Advancements Widget ...");
+      AdvancementsTrackerWidget.pageDown();
     }
   }
 
@@ -75,5 +97,7 @@ public class ModKeyMapping {
 
     event.register(ModKeyMapping.KEY_SHOW_WIDGET);
     event.register(ModKeyMapping.KEY_SHOW_OVERVIEW);
+    event.register(ModKeyMapping.KEY_WIDGET_PAGE_UP);
+    event.register(ModKeyMapping.KEY_WIDGET_PAGE_DOWN);
   }
 }
@@ -53,6 +53,13 @@ public class ClientConfig {
 
   private ClientConfig() {}
 
+  /** Clears the legacy tracked advancements, after they are migrated to a separate file. */
+  public static void clearLegacyTrackedAdvancements() {
+    CLIENT.trackedAdvancementsRemote.set(new ArrayList<>());
+    CLIENT.trackedAdvancementsLocal.set(new ArrayList<>());
+    clientSpec.save();
+  }
+
   @SubscribeEvent
   public static void onConfigReloading(final ModConfigEvent.Reloading configEvent) {
     if (configEvent.getConfig().getSpec() == ClientConfig.clientSpec) {
@@ -63,6 +70,8 @@ public class ClientConfig {
   public static class Config {
 
     public final ForgeConfigSpec.BooleanValue overviewEnabled;
+    public final ForgeConfigSpec.IntValue overviewPopulationBudget;
+    public final ForgeConfigSpec.IntValue overviewCriteriaGridThreshold;
 
     public final ForgeConfigSpec.BooleanValue widgetEnabled;
     public final ForgeConfigSpec.BooleanValue widgetVisible;
@@ -71,10 +80,16 @@ public class ClientConfig {
     public final ForgeConfigSpec.IntValue widgetWidth;
     public final ForgeConfigSpec.IntValue widgetTop;
     public final ForgeConfigSpec.IntValue widgetLeft;
+    public final ForgeConfigSpec.BooleanValue widgetAutoOrder;
 
     public final ForgeConfigSpec.ConfigValue<String> logLevel;
+    public final ForgeConfigSpec.BooleanValue debugRecordListenerTraffic;
+    public final ForgeConfigSpec.ConfigValue<String> debugReplayListenerTraffic;
+    public final ForgeConfigSpec.BooleanValue debugReplayAtRecordedSpeed;
 
     public final ForgeConfigSpec.ConfigValue<List<String>> trackedAdvancements;
+    public final ForgeConfigSpec.IntValue trackedAdvancementsServerRetention;
+    public final ForgeConfigSpec.IntValue trackedAdvancementsMaxServers;
     public final ForgeConfigSpec.ConfigValue<List<String>> trackedAdvancementsRemote;
     public final ForgeConfigSpec.ConfigValue<List<String>> trackedAdvancementsLocal;
 
@@ -86,6 +101,15 @@ public class ClientConfig {
           builder
               .comment("List of default tracked advancements, mostly used by mod packs.")
               .define("trackedAdvancements", new ArrayList<>(List.of("")));
+      trackedAdvancementsServerRetention =
+          builder
+              .comment(
+                  "Number of days to keep tracked advancements of servers which are not visited anymore. 0 = keep forever")
+              .defineInRange("trackedAdvancementsServerRetention", 90, 0, 3650);
+      trackedAdvancementsMaxServers =
+          builder
+              .comment("Max. number of servers to keep tracked advancements for.")
+              .defineInRange("trackedAdvancementsMaxServers", 50, 1, 1000);
       builder.pop();
 
       builder.push("Advancements Tracker: Overview");
@@ -93,6 +117,16 @@ public class ClientConfig {
           builder
               .comment("Enable/Disable the advancements overview screen.")
               .define("overviewEnabled", true);
+      overviewPopulationBudget =
+          builder
+              .comment(
+                  "Max. time in milliseconds per frame to filter large advancement lists. 0 = filter the whole list at once.")
+              .defineInRange("overviewPopulationBudget", 2, 0, 50);
+      overviewCriteriaGridThreshold =
+          builder
+              .comment(
+                  "Min. number of criteria to display them as icon grid inside the advancement details, if most of them could be resolved to items, entities or biomes. 0 = always display them as text.")
+              .defineInRange("overviewCriteriaGridThreshold", 32, 0, 10000);
       builder.pop();
 
       builder.push("Advancements Tracker: Widget");
@@ -126,6 +160,11 @@ public class ClientConfig {
           builder
               .comment("Defines the left position relative to the widget position.")
               .defineInRange("widgetLeft", 0, -400, 400);
+      widgetAutoOrder =
+          builder
+              .comment(
+                  "Orders the tracked advancements by their progress, closest to completion first. Pinned advancements are always shown first.")
+              .define("widgetAutoOrder", false);
       builder.pop();
 
       builder.push("Debug");
@@ -133,13 +172,36 @@ public class ClientConfig {
           builder
               .comment("Changed the default log level to get more output.")
               .define("logLevel", "info");
+      debugRecordListenerTraffic =
+          builder
+              .comment(
+                  "Records the received advancements of every world into advancements_tracker/captures inside the game folder, to replay them for benchmarks and profiling.")
+              .define("debugRecordListenerTraffic", false);
+      debugReplayListenerTraffic =
+          builder
+              .comment(
+                  "File name of a capture inside advancements_tracker/captures, which is replayed after joining a world. Empty = disabled")
+              .define("debugReplayListenerTraffic", "");
+      debugReplayAtRecordedSpeed =
+          builder
+              .comment(
+                  "Replays the capture with the recorded timing. If this is set to false the capture is replayed as fast as possible.")
+              .define("debugReplayAtRecordedSpeed", true);
       builder.pop();
 
+      // Legacy cache, tracked advancements are now stored in a separate file and these values are
+      // only read once to migrate existing entries and cleared afterwards.
       builder.push("cache");
       trackedAdvancementsRemote =
-          builder.define("trackedAdvancementsRemote", new ArrayList<>(List.of("")));
+          builder
+              .comment(
+                  "Legacy: Remote tracked advancements of older versions, which are migrated to the tracked advancements file and cleared afterwards.")
+              .define("trackedAdvancementsRemote", new ArrayList<>(List.of("")));
       trackedAdvancementsLocal =
-          builder.define("trackedAdvancementsLocal", new ArrayList<>(List.of("")));
+          builder
+              .comment(
+                  "Legacy: Local tracked advancements of older versions, which are migrated to the tracked advancements file and cleared afterwards.")
+              .define("trackedAdvancementsLocal", new ArrayList<>(List.of("")));
       builder.pop();
     }
   }
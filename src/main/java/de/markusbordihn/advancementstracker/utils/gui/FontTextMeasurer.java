@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.advancementstracker.utils.gui;
+
+import de.markusbordihn.advancementstracker.core.TextMeasurer;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.gui.Font;
+import net.minecraft.network.chat.FormattedText;
+import net.minecraft.network.chat.Style;
+
+/** Adapter for the font of the game. */
+public class FontTextMeasurer implements TextMeasurer {
+
+  private final Font font;
+
+  public FontTextMeasurer(Font font) {
+    this.font = font;
+  }
+
+  @Override
+  public int width(String text) {
+    return text == null ? 0 : this.font.width(text);
+  }
+
+  @Override
+  public String trimToWidth(String text, int maxWidth) {
+    return text == null ? "" : this.font.plainSubstrByWidth(text, maxWidth);
+  }
+
+  @Override
+  public int getLineHeight() {
+    return this.font.lineHeight;
+  }
+
+  @Override
+  public List<String> split(String text, int maxWidth) {
+    List<String> lines = new ArrayList<>();
+    for (FormattedText line : this.font.getSplitter().splitLines(text, maxWidth, Style.EMPTY)) {
+      lines.add(line.getString());
+    }
+    return lines;
+  }
+}